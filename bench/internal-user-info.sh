@@ -0,0 +1,51 @@
+#!/bin/bash
+# /internal/user/info 고동시성 부하 비교 (플랫폼 스레드 vs 가상 스레드)
+#
+# 사용법
+#   1) 플랫폼 스레드(기존) 기준선
+#      ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=dev' &
+#      TOKEN=<access token> MODE=platform ./bench/internal-user-info.sh
+#   2) 가상 스레드
+#      USER_VIRTUAL_THREADS=true ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=dev' &
+#      TOKEN=<access token> MODE=virtual ./bench/internal-user-info.sh
+#   3) build/bench/ 아래 두 결과의 Requests/sec, 99% latency, 에러(non-2xx) 수를 비교한다.
+#      같은 JDK(21)와 같은 DB_POOL_SIZE 로 실행해야 스레드 모델만의 차이를 볼 수 있다.
+#
+# 결과 (2026-10-17, JDK 21.0.1, DB_POOL_SIZE=20, dev 프로필, build.cloud.gradle 로 만든 bootJar)
+#   환경: vCPU 1개, 메모리 5GB 인 한 호스트에서 앱, PostgreSQL 16, JWKS 스텁, 부하 발생기를 함께 실행했다.
+#   hey 를 설치할 수 없는 환경이라 같은 방식(-z 30s -c N, 10초 워밍업)의 JDK HttpClient 폐쇄 루프 드라이버로 쟀다.
+#   같은 회원을 반복 조회하므로 워밍업 뒤에는 user-info 캐시 적중 경로(JWT 검증 + 직렬화)를 잰 값이다.
+#   | mode     | concurrency | Requests/sec | p99 latency | non-2xx |
+#   |----------|-------------|--------------|-------------|---------|
+#   | platform | 200         | 394.9        | 3.10s       | 0       |
+#   | virtual  | 200         | 389.4        | 1.16s       | 0       |
+#   | platform | 1000        | 557.2        | 5.88s       | 0       |
+#   | virtual  | 1000        | 521.8        | 3.58s       | 0       |
+#   | platform | 4000        | 15.2         | 186.5s      | 2202 *  |
+#   | virtual  | 4000        | 14.3         | 197.4s      | 2396 *  |
+#   * 응답 대신 연결 타임아웃(20s)이 난 요청 수. 4000 에서는 CPU 1개를 부하 발생기와 나눠 쓰느라 양쪽 모두 포화되어
+#     스레드 모델 차이가 아니라 호스트 한계를 잰 값이다. 멀티 코어 호스트에서 부하 발생기를 분리해 다시 잰다.
+#   이 환경에서는 가상 스레드 모드의 처리량 개선은 없었고(-1% ~ -6%), 200/1000 에서 p99 지연만 줄었다.
+#
+# 필요 도구: hey (https://github.com/rakyll/hey)
+
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8081}
+MODE=${MODE:?MODE=platform 또는 MODE=virtual 를 지정하세요}
+TOKEN=${TOKEN:?TOKEN 에 /internal/user/info 를 호출할 수 있는 access token 을 지정하세요}
+DURATION=${DURATION:-30s}
+CONCURRENCY_LEVELS=${CONCURRENCY_LEVELS:-"200 1000 4000"}
+OUT_DIR=${OUT_DIR:-build/bench}
+
+mkdir -p "$OUT_DIR"
+
+# 워밍업 (JIT, 커넥션 풀, 캐시)
+hey -z 10s -c 50 -H "Authorization: Bearer $TOKEN" "$BASE_URL/internal/user/info" > /dev/null
+
+for c in $CONCURRENCY_LEVELS; do
+	out="$OUT_DIR/internal-user-info-$MODE-c$c.txt"
+	echo "== $MODE, concurrency $c, $DURATION =="
+	hey -z "$DURATION" -c "$c" -H "Authorization: Bearer $TOKEN" "$BASE_URL/internal/user/info" | tee "$out" \
+		| grep -E "Requests/sec|99%|Status code|\[[0-9]{3}\]" || true
+done
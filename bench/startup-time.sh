@@ -0,0 +1,88 @@
+#!/bin/bash
+# 컨테이너 시작부터 첫 성공 응답(2xx)까지 걸린 시간 비교 (기존 jar 이미지 vs AOT + AppCDS 이미지)
+#
+# 사용법
+#   1) 두 이미지를 만든다.
+#      docker build -t order-platform-msa-user:jar .
+#      docker build -t order-platform-msa-user:aot --build-arg BUILD_MODE=aot .
+#   2) run.sh 와 같은 DB, 인증 서비스가 떠 있는 상태에서 실행한다.
+#      ENV_FILE=.env.bench ./bench/startup-time.sh
+#      TOKEN 을 주면 /internal/user/info 를, 없으면 management 포트의 /actuator/health 를 첫 요청으로 쓴다.
+#   3) build/bench/startup-time.txt 의 이미지별 중앙값, 최댓값을 비교한다.
+#      같은 호스트, 같은 CPU/메모리 제한(CPUS, MEMORY)에서 번갈아 실행해 캐시나 부하 차이를 줄인다.
+#
+# 결과 (2026-10-17, JAVA_VERSION=17 기본값, 첫 요청은 /actuator/health)
+#   image                          median_ms  max_ms  runs  환경
+#   order-platform-msa-user:jar    50361      56328   5     아래 참고
+#   order-platform-msa-user:aot    28305      35105   5     아래 참고
+#   Docker 를 쓸 수 없는 호스트(vCPU 1개)라 이미지 대신 두 단계의 내용을 그대로 재현해 쟀다.
+#   jar 는 같은 bootJar 를, aot 는 같은 extract + 학습 실행으로 만든 application.jar + lib/ + application.jsa 를
+#   각 ENTRYPOINT 와 같은 옵션으로 번갈아 띄웠다. --memory 1g 대신 -XX:MaxRAM=1g 를 주었고, DB 는 같은 호스트의 PostgreSQL 16 이다.
+#   aot 실행에서 로드된 클래스 21786개 중 18549개가 CDS 아카이브에서 왔다. (-Xlog:class+load 로 확인)
+#   컨테이너 기동 시간은 빠져 있으므로 이미지로 다시 재면 두 값 모두 그만큼 늘어난다.
+#
+# ENV_FILE 에는 DB_URL, DB_USERNAME, DB_PASSWORD, OAUTH_JWKS_URI, AUTH_INTERNAL_AUDIENCE, AUTH_SVC_URI 를 둔다.
+
+set -euo pipefail
+
+IMAGES=${IMAGES:-"order-platform-msa-user:jar order-platform-msa-user:aot"}
+ENV_FILE=${ENV_FILE:?ENV_FILE 에 컨테이너 환경 변수 파일을 지정하세요}
+NETWORK=${NETWORK:-entity-repository_order-network}
+RUNS=${RUNS:-5}
+CPUS=${CPUS:-1}
+MEMORY=${MEMORY:-1g}
+PORT=${PORT:-18081}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-18091}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+TOKEN=${TOKEN:-}
+OUT_DIR=${OUT_DIR:-build/bench}
+NAME=user-startup-bench
+
+mkdir -p "$OUT_DIR"
+out="$OUT_DIR/startup-time.txt"
+: > "$out"
+
+if [ -n "$TOKEN" ]; then
+	PROBE=(-H "Authorization: Bearer $TOKEN" "http://localhost:$PORT/internal/user/info")
+else
+	PROBE=("http://localhost:$MANAGEMENT_PORT/actuator/health")
+fi
+
+now_ms() {
+	date +%s%3N
+}
+
+measure() {
+	local image=$1
+	docker rm -f "$NAME" > /dev/null 2>&1 || true
+
+	local started
+	started=$(now_ms)
+	docker run -d --name "$NAME" --network "$NETWORK" --env-file "$ENV_FILE" \
+		--cpus "$CPUS" --memory "$MEMORY" -p "$PORT:8081" -p "$MANAGEMENT_PORT:8091" "$image" > /dev/null
+
+	local deadline=$((started + TIMEOUT_SECONDS * 1000))
+	until curl -fsS -o /dev/null "${PROBE[@]}" 2> /dev/null; do
+		if [ "$(now_ms)" -gt "$deadline" ]; then
+			docker rm -f "$NAME" > /dev/null
+			echo "timeout"
+			return
+		fi
+		sleep 0.05
+	done
+	echo $(($(now_ms) - started))
+	docker rm -f "$NAME" > /dev/null
+}
+
+for i in $(seq 1 "$RUNS"); do
+	for image in $IMAGES; do
+		ms=$(measure "$image")
+		echo "$image run=$i first_success_ms=$ms" | tee -a "$out"
+	done
+done
+
+echo "== 이미지별 중앙값 / 최댓값 (ms) =="
+for image in $IMAGES; do
+	grep "^$image " "$out" | sed 's/.*first_success_ms=//' | grep -v timeout | sort -n \
+		| awk -v image="$image" '{ v[NR] = $1 } END { if (NR) printf "%s median=%d max=%d runs=%d\n", image, v[int((NR + 1) / 2)], v[NR], NR }'
+done
@@ -0,0 +1,131 @@
+package app.benchmark;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import app.commonUtil.entity.BaseEntity;
+import app.domain.manager.dto.response.GetCustomerListResponse;
+import app.domain.user.model.UserQueryRepositoryImpl;
+import app.domain.user.model.entity.QUser;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.model.entity.enums.UserSex;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 관리자 고객 목록 한 페이지(기본 100건) 조회 비용: 엔티티 조회 후 DTO 변환 vs DTO 프로젝션
+ * 인메모리 H2 에 Hibernate 만 띄워 쿼리 + 결과 변환 + 영속성 컨텍스트 비용을 본다.
+ * ./gradlew jmh -PjmhIncludes=CustomerListQuery -PjmhMode=avgt -PjmhTimeUnit=us 로 실행하며
+ * gc.alloc.rate.norm(B/op) 으로 힙 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+public class CustomerListQueryBenchmark {
+
+	private static final int CUSTOMERS = 1_000;
+
+	@Param({"100"})
+	private int pageSize;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ReflectiveOperationException {
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(User.class)
+			.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+			.setProperty("hibernate.connection.url", "jdbc:h2:mem:customer-list;DB_CLOSE_DELAY=-1")
+			.setProperty("hibernate.connection.username", "sa")
+			.setProperty("hibernate.hbm2ddl.auto", "create")
+			.setProperty("hibernate.show_sql", "false")
+			.buildSessionFactory();
+
+		EntityManager em = sessionFactory.createEntityManager();
+		em.getTransaction().begin();
+		for (long i = 1; i <= CUSTOMERS; i++) {
+			em.persist(customer(i));
+		}
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	/**
+	 * 기존 방식: 모든 컬럼을 읽어 User 를 영속성 컨텍스트에 올린 뒤 DTO 로 변환
+	 */
+	@Benchmark
+	public List<GetCustomerListResponse> entityThenMap() {
+		EntityManager em = sessionFactory.createEntityManager();
+		try {
+			QUser user = QUser.user;
+			return new JPAQueryFactory(em)
+				.selectFrom(user)
+				.where(user.userRole.eq(UserRole.CUSTOMER))
+				.orderBy(user.createdAt.desc())
+				.limit(pageSize + 1L)
+				.fetch()
+				.stream()
+				.map(GetCustomerListResponse::from)
+				.toList();
+		} finally {
+			em.close();
+		}
+	}
+
+	/**
+	 * 현재 방식: 필요한 네 컬럼만 읽어 바로 DTO 로 생성
+	 */
+	@Benchmark
+	public List<GetCustomerListResponse> projection() {
+		EntityManager em = sessionFactory.createEntityManager();
+		try {
+			return new UserQueryRepositoryImpl(new JPAQueryFactory(em))
+				.findCustomerListSlice(UserRole.CUSTOMER, PageRequest.of(0, pageSize))
+				.getContent();
+		} finally {
+			em.close();
+		}
+	}
+
+	private static User customer(long id) throws ReflectiveOperationException {
+		User user = User.builder()
+			.username("user" + id)
+			.email("user" + id + "@example.com")
+			.password("$2a$10$abcdefghijklmnopqrstuv")
+			.nickname("nick" + id)
+			.realName("홍길동")
+			.phoneNumber("010" + String.format("%08d", id))
+			.usersex(UserSex.MALE)
+			.birthdate(LocalDate.of(1990, 1, 1))
+			.userRole(UserRole.CUSTOMER)
+			.build();
+		setAuditField(user, "createdAt", LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id));
+		setAuditField(user, "updatedAt", LocalDateTime.of(2024, 6, 1, 12, 0));
+		return user;
+	}
+
+	private static void setAuditField(User user, String name, LocalDateTime value) throws ReflectiveOperationException {
+		Field field = BaseEntity.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(user, value);
+	}
+}
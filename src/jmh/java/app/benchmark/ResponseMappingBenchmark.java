@@ -0,0 +1,146 @@
+package app.benchmark;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.commonUtil.apiPayload.PagedResponse;
+import app.commonUtil.entity.BaseEntity;
+import app.domain.customer.dto.response.GetCustomerAddressListResponse;
+import app.domain.manager.dto.response.GetCustomerDetailResponse;
+import app.domain.manager.dto.response.GetCustomerListResponse;
+import app.domain.manager.status.ManagerSuccessStatus;
+import app.domain.user.model.dto.response.GetUserInfoResponse;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.UserAddress;
+import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.model.entity.enums.UserSex;
+import app.domain.user.status.UserSuccessStatus;
+import app.global.config.JacksonConfig;
+
+/**
+ * 엔티티 -> 응답 DTO 변환, ApiResponse/PagedResponse 래핑, JacksonConfig ObjectMapper 직렬화 비용
+ * ./gradlew jmh 로 실행하며 gc 프로파일러의 gc.alloc.rate.norm(B/op) 으로 할당량을 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseMappingBenchmark {
+
+	private ObjectMapper objectMapper;
+	private User user;
+	private List<UserAddress> addresses;
+
+	/**
+	 * 목록 조회(20건 기본 페이지, 1000건 대량 페이지)에만 쓰이는 상태
+	 */
+	@State(Scope.Benchmark)
+	public static class PageState {
+
+		@Param({"20", "1000"})
+		private int pageSize;
+
+		private PageImpl<User> page;
+
+		@Setup(Level.Trial)
+		public void setUp() throws ReflectiveOperationException {
+			List<User> users = new ArrayList<>(pageSize);
+			for (long i = 1; i <= pageSize; i++) {
+				users.add(user(i));
+			}
+			page = new PageImpl<>(users, PageRequest.of(0, pageSize), 100_000L);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws ReflectiveOperationException {
+		objectMapper = new JacksonConfig().objectMapper();
+		user = user(1L);
+		addresses = IntStream.rangeClosed(1, 3)
+			.mapToObj(i -> UserAddress.builder()
+				.user(user)
+				.alias("주소" + i)
+				.address("서울특별시 강남구 테헤란로 " + i)
+				.addressDetail(i + "층")
+				.isDefault(i == 1)
+				.build())
+			.toList();
+	}
+
+	@Benchmark
+	public GetUserInfoResponse profileMapping() {
+		return GetUserInfoResponse.from(user);
+	}
+
+	@Benchmark
+	public byte[] profileResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(
+			ApiResponse.onSuccess(UserSuccessStatus.USER_INFO_FETCHED, GetUserInfoResponse.from(user)));
+	}
+
+	@Benchmark
+	public byte[] customerDetailResponse() throws JsonProcessingException {
+		List<GetCustomerAddressListResponse> addressList = addresses.stream()
+			.map(GetCustomerAddressListResponse::from)
+			.toList();
+		return objectMapper.writeValueAsBytes(
+			ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_DETAIL_OK,
+				GetCustomerDetailResponse.from(user, addressList)));
+	}
+
+	@Benchmark
+	public PagedResponse<GetCustomerListResponse> customerPageMapping(PageState state) {
+		return PagedResponse.from(state.page.map(GetCustomerListResponse::from));
+	}
+
+	@Benchmark
+	public byte[] customerPageResponse(PageState state) throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(
+			ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_OK,
+				PagedResponse.from(state.page.map(GetCustomerListResponse::from))));
+	}
+
+	private static User user(long userId) throws ReflectiveOperationException {
+		User user = User.builder()
+			.userId(userId)
+			.username("user" + userId)
+			.email("user" + userId + "@example.com")
+			.password("$2a$10$abcdefghijklmnopqrstuv")
+			.nickname("nick" + userId)
+			.realName("홍길동")
+			.phoneNumber("010" + String.format("%08d", userId))
+			.usersex(UserSex.MALE)
+			.birthdate(LocalDate.of(1990, 1, 1))
+			.userRole(UserRole.CUSTOMER)
+			.build();
+		setAuditField(user, "createdAt", LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(userId));
+		setAuditField(user, "updatedAt", LocalDateTime.of(2024, 6, 1, 12, 0));
+		return user;
+	}
+
+	private static void setAuditField(User user, String name, LocalDateTime value) throws ReflectiveOperationException {
+		Field field = BaseEntity.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(user, value);
+	}
+}
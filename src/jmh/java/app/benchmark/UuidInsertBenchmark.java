@@ -0,0 +1,98 @@
+package app.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import app.global.id.TimeOrderedUuidGenerator;
+
+/**
+ * p_user_address 와 같은 UUID PK 테이블에 대한 INSERT 처리량: 랜덤(v4) vs 시간순(v7)
+ * 반복할수록 테이블이 커지므로 후반 iteration 에서 PK 인덱스 삽입 위치 차이가 드러난다.
+ * ./gradlew jmh -PjmhIncludes=UuidInsert 로 실행하며 결과는 행/초(ops/s) 이다.
+ * 인메모리 H2 기준이므로 운영 Postgres 에서는 같은 비교를 pg_stat_statements 와 인덱스 크기로 확인한다.
+ */
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+
+	private static final int BATCH_SIZE = 1_000;
+
+	public enum KeyType {
+		RANDOM {
+			@Override
+			UUID next() {
+				return UUID.randomUUID();
+			}
+		},
+		TIME_ORDERED {
+			@Override
+			UUID next() {
+				return TimeOrderedUuidGenerator.next();
+			}
+		};
+
+		abstract UUID next();
+	}
+
+	@Param({"RANDOM", "TIME_ORDERED"})
+	private KeyType keyType;
+
+	private Connection connection;
+	private PreparedStatement insert;
+	private long userId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:uuid-insert-" + keyType + ";DB_CLOSE_DELAY=-1", "sa", "");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("""
+				CREATE TABLE p_user_address (
+					address_id     UUID PRIMARY KEY,
+					user_id        BIGINT       NOT NULL,
+					alias          VARCHAR(50)  NOT NULL,
+					address        VARCHAR(255) NOT NULL,
+					address_detail VARCHAR(255) NOT NULL
+				)""");
+		}
+		connection.setAutoCommit(false);
+		insert = connection.prepareStatement(
+			"INSERT INTO p_user_address (address_id, user_id, alias, address, address_detail) VALUES (?, ?, ?, ?, ?)");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		insert.close();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE p_user_address");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public int[] insertBatch() throws SQLException {
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			insert.setObject(1, keyType.next());
+			insert.setLong(2, ++userId);
+			insert.setString(3, "집");
+			insert.setString(4, "서울특별시 강남구 테헤란로 " + i);
+			insert.setString(5, i + "층");
+			insert.addBatch();
+		}
+		int[] inserted = insert.executeBatch();
+		connection.commit();
+		return inserted;
+	}
+}
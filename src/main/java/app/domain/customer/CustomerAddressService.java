@@ -3,7 +3,12 @@ package app.domain.customer;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,30 +20,57 @@ import app.domain.customer.dto.response.AddCustomerAddressResponse;
 import app.domain.customer.dto.response.GetCustomerAddressListResponse;
 import app.domain.customer.dto.response.UpdateCustomerAddressResponse;
 import app.domain.customer.status.CustomerErrorStatus;
+import app.domain.user.event.UserAddressChangedEvent;
 import app.domain.user.model.UserRepository;
 import app.domain.user.status.UserErrorStatus;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.user.model.UserAddressRepository;
-import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.UserAddress;
+import app.global.cache.CacheNames;
+import app.global.datasource.PrimaryReads;
+import app.global.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerAddressService {
 
+	private static final String ADDRESS_UNIQUE_INDEX = "uk_p_user_address_user_address";
+
 	private final UserAddressRepository userAddressRepository;
 	private final UserRepository userRepository;
 	private final TokenPrincipalParser tokenPrincipalParser;
-
+	private final CacheManager cacheManager;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 주문서 진입마다 호출되므로 회원별 주소 목록을 캐시한다. 변경은 커밋 후 UserCacheInvalidator 가 비운다.
+	 * 없을 때의 조회는 Caffeine 의 원자적 계산(cache.get(key, loader))으로 채우므로, 조회가 끝나기 전에 들어온
+	 * 커밋 후 비우기는 조회가 끝날 때까지 기다렸다가 방금 채운 값을 지운다. (조회 후 put 하면 이전 목록이 TTL 동안 남는다)
+	 * 같은 이유로 캐시를 채우는 조회는 replica 가 아닌 primary 에서 읽는다.
+	 */
 	@Transactional(readOnly = true)
 	public List<GetCustomerAddressListResponse> getCustomerAddresses(Authentication authentication){
-		String userIdStr = tokenPrincipalParser.getUserId(authentication);
-		Long userId = Long.parseLong(userIdStr);
+		Long userId = AuthenticatedUser.userId(authentication, tokenPrincipalParser);
+
+		Cache cache = cacheManager.getCache(CacheNames.CUSTOMER_ADDRESSES);
+		if (cache == null) {
+			return loadCustomerAddresses(userId);
+		}
+		try {
+			return cache.get(userId, () -> loadCustomerAddresses(userId));
+		} catch (Cache.ValueRetrievalException e) {
+			if (e.getCause() instanceof GeneralException generalException) {
+				throw generalException;
+			}
+			throw e;
+		}
+	}
 
+	private List<GetCustomerAddressListResponse> loadCustomerAddresses(Long userId) {
 		try {
-			return userAddressRepository.findAllByUserUserId(userId)
+			return PrimaryReads.call(() -> userAddressRepository.findAllByUserUserId(userId))
 					.stream()
 					.map(GetCustomerAddressListResponse::from)
 					.toList();
@@ -47,35 +79,23 @@ public class CustomerAddressService {
 		}
 	}
 
+	/**
+	 * 기본 주소 요청이면 기존 기본 주소를 한 번의 UPDATE 로 해제하고, 아니면 첫 주소인지만 확인한 뒤 INSERT 한다. (2문장)
+	 * 회원은 프록시 참조로만 연결하고, 중복 주소는 uk_p_user_address_user_address 제약 위반으로 판별한다.
+	 */
 	@Transactional
 	public AddCustomerAddressResponse addCustomerAddress(AddCustomerAddressRequest request,Authentication authentication) {
-		String userIdStr = tokenPrincipalParser.getUserId(authentication);
-		Long userId = Long.parseLong(userIdStr);
-
-		User user = userRepository.findByUserId(userId)
-			.orElseThrow(()-> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-		if (userAddressRepository.existsByUserAndAddressAndAddressDetail(user, request.getAddress(), request.getAddressDetail())) {
-			throw new GeneralException(CustomerErrorStatus.ADDRESS_ALREADY_EXISTS);
-		}
+		Long userId = AuthenticatedUser.userId(authentication, tokenPrincipalParser);
 
 		boolean finalIsDefault = request.isDefault();
-
-		if (!finalIsDefault) {
-			if (userAddressRepository.findAllByUserUserId(user.getUserId()).isEmpty()) {
-				finalIsDefault = true;
-			}
-		}
-
 		if (finalIsDefault) {
-			userAddressRepository.findByUser_UserIdAndIsDefaultTrue(user.getUserId())
-					.ifPresent(existingDefault -> {
-						existingDefault.setDefault(false);
-						userAddressRepository.save(existingDefault);
-					});
+			userAddressRepository.clearDefaultByUserId(userId);
+		} else if (!userAddressRepository.existsByUser_UserId(userId)) {
+			finalIsDefault = true;
 		}
 
 		UserAddress address = UserAddress.builder()
-				.user(user)
+				.user(userRepository.getReferenceById(userId))
 				.alias(request.getAlias())
 				.address(request.getAddress())
 				.addressDetail(request.getAddressDetail())
@@ -83,12 +103,16 @@ public class CustomerAddressService {
 				.build();
 
 		try {
-			UserAddress savedAddress = userAddressRepository.save(address);
-			if (savedAddress.getAddressId() == null) {
-				throw new GeneralException(CustomerErrorStatus.ADDRESS_ADD_FAILED);
-			}
+			UserAddress savedAddress = userAddressRepository.saveAndFlush(address);
+			eventPublisher.publishEvent(new UserAddressChangedEvent(userId));
 
 			return new AddCustomerAddressResponse(savedAddress.getAddressId());
+		} catch (DataIntegrityViolationException e) {
+			if (ADDRESS_UNIQUE_INDEX.equalsIgnoreCase(violatedConstraintName(e))) {
+				throw new GeneralException(CustomerErrorStatus.ADDRESS_ALREADY_EXISTS);
+			}
+			// 회원 FK 위반: 토큰의 회원이 DB 에 없는 경우
+			throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
 		} catch (DataAccessException e) {
 			throw new GeneralException(CustomerErrorStatus.ADDRESS_ADD_FAILED);
 		}
@@ -96,8 +120,7 @@ public class CustomerAddressService {
 
 	@Transactional
 	public UpdateCustomerAddressResponse updateAddress(UUID addressId, UpdateCustomerAddressRequest req, Authentication authentication) {
-		String userIdStr = tokenPrincipalParser.getUserId(authentication);
-		Long userId = Long.parseLong(userIdStr);
+		Long userId = AuthenticatedUser.userId(authentication, tokenPrincipalParser);
 
 		UserAddress addressToUpdate = userAddressRepository.findById(addressId)
 			.orElseThrow(() -> new GeneralException(UserErrorStatus.ADDRESS_NOT_FOUND));
@@ -111,13 +134,13 @@ public class CustomerAddressService {
 		}
 
 		UserAddress updatedAddress = addressToUpdate.update(req);
+		eventPublisher.publishEvent(new UserAddressChangedEvent(userId));
 		return UpdateCustomerAddressResponse.from(updatedAddress);
 	}
 
 	@Transactional
 	public String deleteAddress(UUID addressId, Authentication authentication) {
-		String userIdStr = tokenPrincipalParser.getUserId(authentication);
-		Long userId = Long.parseLong(userIdStr);
+		Long userId = AuthenticatedUser.userId(authentication, tokenPrincipalParser);
 
 		UserAddress addressToDelete = userAddressRepository.findById(addressId)
 			.orElseThrow(() -> new GeneralException(UserErrorStatus.ADDRESS_NOT_FOUND));
@@ -131,6 +154,16 @@ public class CustomerAddressService {
 		}
 
 		userAddressRepository.delete(addressToDelete);
+		eventPublisher.publishEvent(new UserAddressChangedEvent(userId));
 		return "Address deleted successfully";
 	}
+
+	private static String violatedConstraintName(DataIntegrityViolationException e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				return violation.getConstraintName();
+			}
+		}
+		return null;
+	}
 }
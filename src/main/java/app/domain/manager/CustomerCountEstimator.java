@@ -0,0 +1,34 @@
+package app.domain.manager;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.user.model.UserQueryRepository;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CountMode.ESTIMATED 용 count. 정확한 count(*) 결과를 짧은 TTL 동안 재사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerCountEstimator {
+
+	private final UserRepository userRepository;
+	private final UserQueryRepository userQueryRepository;
+
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheNames.CUSTOMER_COUNT, key = "'all'")
+	public long countCustomers() {
+		return userRepository.countByUserRole(UserRole.CUSTOMER);
+	}
+
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheNames.CUSTOMER_SEARCH_COUNT, key = "#keyWord == null ? '' : #keyWord.toLowerCase()")
+	public long countSearch(String keyWord) {
+		return userQueryRepository.countSearchUser(keyWord);
+	}
+}
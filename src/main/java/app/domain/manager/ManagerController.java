@@ -2,24 +2,44 @@ package app.domain.manager;
 
 import static org.springframework.data.domain.Sort.Direction.*;
 
+import java.io.InputStream;
+import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.domain.manager.dto.response.GetCustomerDetailResponse;
 import app.domain.manager.dto.response.GetCustomerListResponse;
+import app.domain.manager.dto.response.UserImportResponse;
+import app.domain.manager.exporter.ExportTimeoutInterceptor;
+import app.domain.manager.exporter.UserExportFormat;
+import app.domain.manager.exporter.UserExportService;
+import app.domain.manager.importer.UserImportFormat;
+import app.domain.manager.importer.UserImportService;
 import app.domain.manager.status.ManagerSuccessStatus;
+import app.global.pagination.CountMode;
+import app.global.pagination.CursorDirection;
+import app.global.pagination.CursorPagedResponse;
+import app.global.pagination.SlicedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -29,16 +49,48 @@ import lombok.RequiredArgsConstructor;
 public class ManagerController {
 
 	private final ManagerService managerService;
+	private final UserImportService userImportService;
+	private final UserExportService userExportService;
+	private final ExportTimeoutInterceptor exportTimeoutInterceptor;
 
 	@GetMapping("/customer")
 	@Operation(
 		summary = "전체 사용자 목록 조회",
 		description = "가입한 사용자 목록을 페이지 별로 조회합니다. 생성일 또는 수정일 기준으로 정렬할 수 있습니다.")
 	public ApiResponse<PagedResponse<GetCustomerListResponse>> getAllCustomer(
+		@PageableDefault(size = 20, sort = "createdAt", direction = DESC) Pageable pageable,
+		@RequestParam(defaultValue = "EXACT") CountMode countMode
+	) {
+		PagedResponse<GetCustomerListResponse> response = countMode == CountMode.ESTIMATED
+			? managerService.getAllCustomerEstimated(pageable)
+			: managerService.getAllCustomer(pageable);
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_OK, response);
+	}
+
+	@GetMapping(value = "/customer", params = {"countMode=NONE", "!cursor"})
+	@Operation(
+		summary = "전체 사용자 목록 조회 (전체 건수 생략)",
+		description = "전체 건수(count) 계산 없이 다음 페이지 존재 여부(hasNext)만 함께 조회합니다.")
+	public ApiResponse<SlicedResponse<GetCustomerListResponse>> getAllCustomerSlice(
 		@PageableDefault(size = 20, sort = "createdAt", direction = DESC) Pageable pageable
 	) {
-		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_OK,managerService.getAllCustomer(pageable));
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_OK,
+			managerService.getAllCustomerSlice(pageable));
+	}
+
+	@GetMapping(value = "/customer", params = "cursor")
+	@Operation(
+		summary = "전체 사용자 목록 커서 조회",
+		description = "생성일 기준 커서 방식으로 사용자 목록을 조회합니다. 첫 페이지는 cursor 를 빈 값으로 요청하고, 응답의 nextCursor/prevCursor 로 이동합니다.")
+	public ApiResponse<CursorPagedResponse<GetCustomerListResponse>> getAllCustomerByCursor(
+		@RequestParam String cursor,
+		@RequestParam(defaultValue = "NEXT") CursorDirection direction,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_OK,
+			managerService.getAllCustomerByCursor(cursor, direction, size));
 	}
+
 	@GetMapping("/customer/{userId}")
 	@Operation(
 		summary = "선택한 유저 정보 조회",
@@ -50,16 +102,95 @@ public class ManagerController {
 		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_DETAIL_OK,managerService.getCustomerDetailById(userId));
 	}
 
+	@GetMapping("/customer/details")
+	@Operation(
+		summary = "여러 유저 정보 일괄 조회",
+		description = "목록 페이지에 보이는 유저들의 상세 정보와 주소를 한 번에 조회합니다. 최대 100명까지 요청할 수 있으며 없는 유저는 제외됩니다. "
+			+ "MANAGER, MASTER 만 호출할 수 있습니다."
+	)
+	public ApiResponse<List<GetCustomerDetailResponse>> getUsersDetails(
+		@RequestParam List<Long> userIds,
+		Authentication authentication
+	) {
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_DETAILS_OK,
+			managerService.getCustomerDetails(userIds, authentication));
+	}
+
+
+	@GetMapping("/customer/export")
+	@Operation(
+		summary = "유저 전체 내보내기",
+		description = "전체 고객을 CSV 또는 NDJSON 으로 스트리밍 다운로드합니다. 요청 시점의 스냅샷이 내려가며, "
+			+ "MANAGER, MASTER 만 호출할 수 있습니다. 다운로드를 취소하면 서버에서도 조회를 중단합니다.")
+	public ResponseEntity<StreamingResponseBody> exportCustomers(
+		@RequestParam(defaultValue = "CSV") UserExportFormat format,
+		Authentication authentication,
+		HttpServletRequest request
+	) {
+		StreamingResponseBody body = userExportService.exportCustomers(format, authentication);
+		exportTimeoutInterceptor.applyTo(request);
+		return ResponseEntity.ok()
+			.contentType(format.getMediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename(format.fileName("customers"))
+				.build()
+				.toString())
+			.body(body);
+	}
+
+	@PostMapping(value = "/customer/import", consumes = {"application/x-ndjson", "text/csv"})
+	@Operation(
+		summary = "유저 일괄 가져오기",
+		description = "NDJSON(한 줄에 회원가입 요청 JSON 하나) 또는 CSV(첫 줄에 회원가입 요청 필드명 헤더)를 스트리밍으로 받아 회원을 일괄 등록합니다. "
+			+ "MANAGER, MASTER 만 호출할 수 있으며, 실패한 행은 줄 번호와 사유로 응답합니다.")
+	public ApiResponse<UserImportResponse> importCustomers(
+		@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+		InputStream body,
+		Authentication authentication
+	) {
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_IMPORT_CUSTOMER_OK,
+			userImportService.importUsers(body, UserImportFormat.from(contentType), authentication));
+	}
 
 	@GetMapping("/customer/search")
 	@Operation(
 		summary = "사용자 검색",
 		description = "키워드를 사용하여 가입한 사용자를 검색하고, 결과를 페이지 별로 조회합니다. 생성일 또는 수정일 기준으로 정렬할 수 있습니다.")
 	public ApiResponse<PagedResponse<GetCustomerListResponse>> searchCustomer(
+		Pageable pageable,
+		@RequestParam String keyWord,
+		@RequestParam(defaultValue = "EXACT") CountMode countMode
+	) {
+		PagedResponse<GetCustomerListResponse> response = countMode == CountMode.ESTIMATED
+			? managerService.searchCustomerEstimated(keyWord, pageable)
+			: managerService.searchCustomer(keyWord, pageable);
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_CUSTOMER_OK, response);
+	}
+
+	@GetMapping(value = "/customer/search", params = {"countMode=NONE", "!cursor"})
+	@Operation(
+		summary = "사용자 검색 (전체 건수 생략)",
+		description = "전체 건수(count) 계산 없이 검색 결과와 다음 페이지 존재 여부(hasNext)만 조회합니다.")
+	public ApiResponse<SlicedResponse<GetCustomerListResponse>> searchCustomerSlice(
 		Pageable pageable,
 		@RequestParam String keyWord
 	) {
-		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_CUSTOMER_OK,managerService.searchCustomer(keyWord, pageable));
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_CUSTOMER_OK,
+			managerService.searchCustomerSlice(keyWord, pageable));
+	}
+
+	@GetMapping(value = "/customer/search", params = "cursor")
+	@Operation(
+		summary = "사용자 커서 검색",
+		description = "키워드로 사용자를 검색하고 생성일 기준 커서 방식으로 조회합니다. 첫 페이지는 cursor 를 빈 값으로 요청합니다.")
+	public ApiResponse<CursorPagedResponse<GetCustomerListResponse>> searchCustomerByCursor(
+		@RequestParam String keyWord,
+		@RequestParam String cursor,
+		@RequestParam(defaultValue = "NEXT") CursorDirection direction,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_CUSTOMER_OK,
+			managerService.searchCustomerByCursor(keyWord, cursor, direction, size));
 	}
 
 }
\ No newline at end of file
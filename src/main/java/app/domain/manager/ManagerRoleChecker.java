@@ -0,0 +1,38 @@
+package app.domain.manager;
+
+import java.util.Set;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.commonUtil.security.TokenPrincipalParser;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰에는 권한 정보가 없으므로 일괄 가져오기/내보내기처럼 대량의 개인정보를 다루는 API 는 DB 의 역할로 호출자를 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ManagerRoleChecker {
+
+	private static final Set<UserRole> MANAGER_ROLES = Set.of(UserRole.MANAGER, UserRole.MASTER);
+
+	private final UserRepository userRepository;
+	private final TokenPrincipalParser tokenPrincipalParser;
+
+	public void check(Authentication authentication) {
+		Long userId = AuthenticatedUser.userId(authentication, tokenPrincipalParser);
+		UserRole role = userRepository.findByUserId(userId)
+			.map(User::getUserRole)
+			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+		if (!MANAGER_ROLES.contains(role)) {
+			throw new GeneralException(ErrorStatus._FORBIDDEN);
+		}
+	}
+}
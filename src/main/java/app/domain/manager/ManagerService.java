@@ -1,61 +1,224 @@
 package app.domain.manager;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import app.domain.customer.dto.response.GetCustomerAddressListResponse;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.manager.dto.response.GetCustomerDetailResponse;
 import app.domain.manager.dto.response.GetCustomerListResponse;
-import app.domain.user.model.UserAddressRepository;
+import app.domain.manager.status.ManagerErrorStatus;
 import app.domain.user.model.UserQueryRepository;
-import app.domain.user.model.UserRepository;
-import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.search.UserSearchHits;
+import app.domain.user.search.UserSearchIndex;
+import app.global.pagination.CursorDirection;
+import app.global.pagination.CursorPagedResponse;
+import app.global.pagination.SlicedResponse;
+import app.global.pagination.UserCursor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class ManagerService {
 
-	private final UserRepository userRepository;
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 	private final UserQueryRepository userQueryRepository;
-	private final UserAddressRepository userAddressRepository;
+	private final UserSearchIndex userSearchIndex;
+	private final CustomerCountEstimator customerCountEstimator;
+	private final ManagerRoleChecker managerRoleChecker;
 
 
 
 	@Transactional(readOnly = true)
 	public PagedResponse<GetCustomerListResponse> getAllCustomer(Pageable pageable) {
-		Page<GetCustomerListResponse> page = userRepository.findAllByUserRole(UserRole.CUSTOMER, pageable)
-			.map(GetCustomerListResponse::from);
+		Page<GetCustomerListResponse> page = userQueryRepository.findCustomerList(UserRole.CUSTOMER, pageable);
 
 		return PagedResponse.from(page);
 	}
 
+	@Transactional(readOnly = true)
+	public PagedResponse<GetCustomerListResponse> getAllCustomerEstimated(Pageable pageable) {
+		List<GetCustomerListResponse> content = userQueryRepository.findCustomerListSlice(UserRole.CUSTOMER, pageable)
+			.getContent();
+
+		return PagedResponse.from(new PageImpl<>(content, pageable, customerCountEstimator.countCustomers()));
+	}
+
+	@Transactional(readOnly = true)
+	public SlicedResponse<GetCustomerListResponse> getAllCustomerSlice(Pageable pageable) {
+		Slice<GetCustomerListResponse> slice = userQueryRepository.findCustomerListSlice(UserRole.CUSTOMER, pageable);
+
+		return SlicedResponse.from(slice);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPagedResponse<GetCustomerListResponse> getAllCustomerByCursor(String cursor, CursorDirection direction, int size) {
+		UserCursor decoded = decodeCursor(cursor);
+		int pageSize = clampCursorPageSize(size);
+		List<GetCustomerListResponse> rows = userQueryRepository.findCustomerListByCursor(UserRole.CUSTOMER, decoded,
+			direction, pageSize + 1);
+
+		return CursorPagedResponse.of(rows, pageSize, decoded, direction, ManagerService::cursorOf, Function.identity());
+	}
+
 	@Transactional(readOnly = true)
 	public GetCustomerDetailResponse getCustomerDetailById(Long userId) {
-		User user = userRepository.findById(userId)
+		return userQueryRepository.findCustomerDetails(List.of(userId)).stream()
+			.findFirst()
 			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-		List<GetCustomerAddressListResponse> addressList = userAddressRepository.findAllByUserUserId(userId)
-			.stream().map(GetCustomerAddressListResponse::from).toList();
+	}
 
-		return GetCustomerDetailResponse.from(user, addressList);
+	/**
+	 * 관리자 화면의 현재 목록 페이지 상세를 한 번에 미리 읽는다. 요청 순서를 유지하고 없는 id 는 제외한다.
+	 * 여러 회원의 개인정보를 한 번에 내려주므로 일괄 가져오기/내보내기와 같이 MANAGER, MASTER 만 호출할 수 있다.
+	 */
+	@Transactional(readOnly = true)
+	public List<GetCustomerDetailResponse> getCustomerDetails(List<Long> userIds, Authentication authentication) {
+		managerRoleChecker.check(authentication);
+		List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+		if (ids.size() > MAX_CURSOR_PAGE_SIZE) {
+			throw new GeneralException(ManagerErrorStatus.TOO_MANY_USER_IDS);
+		}
+		Map<Long, GetCustomerDetailResponse> byId = userQueryRepository.findCustomerDetails(ids).stream()
+			.collect(Collectors.toMap(GetCustomerDetailResponse::getUserId, Function.identity()));
+		return ids.stream()
+			.map(byId::get)
+			.filter(Objects::nonNull)
+			.toList();
 	}
 
 
 	@Transactional(readOnly = true)
 	public PagedResponse<GetCustomerListResponse> searchCustomer(String keyWord, Pageable pageable) {
-		Page<User> users = userQueryRepository.searchUser(keyWord, pageable);
+		if (userSearchIndex.isReady()) {
+			return PagedResponse.from(searchIndex(keyWord, pageable));
+		}
 
-		Page<GetCustomerListResponse> content = users.map(GetCustomerListResponse::from);
+		Page<GetCustomerListResponse> content = userQueryRepository.searchCustomerList(keyWord, pageable);
 
 		return PagedResponse.from(content);
 	}
 
+	@Transactional(readOnly = true)
+	public PagedResponse<GetCustomerListResponse> searchCustomerEstimated(String keyWord, Pageable pageable) {
+		if (userSearchIndex.isReady()) {
+			// 색인 count 는 DB count(*) 와 달리 비용이 작으므로 정확한 값을 그대로 쓴다.
+			return PagedResponse.from(searchIndex(keyWord, pageable));
+		}
+
+		List<GetCustomerListResponse> content = userQueryRepository.searchCustomerListSlice(keyWord, pageable)
+			.getContent();
+
+		return PagedResponse.from(new PageImpl<>(content, pageable, customerCountEstimator.countSearch(keyWord)));
+	}
+
+	@Transactional(readOnly = true)
+	public SlicedResponse<GetCustomerListResponse> searchCustomerSlice(String keyWord, Pageable pageable) {
+		if (userSearchIndex.isReady()) {
+			Page<GetCustomerListResponse> page = searchIndex(keyWord, pageable);
+			return SlicedResponse.from(new SliceImpl<>(page.getContent(), pageable, page.hasNext()));
+		}
 
-}
\ No newline at end of file
+		Slice<GetCustomerListResponse> slice = userQueryRepository.searchCustomerListSlice(keyWord, pageable);
+
+		return SlicedResponse.from(slice);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPagedResponse<GetCustomerListResponse> searchCustomerByCursor(String keyWord, String cursor,
+		CursorDirection direction, int size) {
+		UserCursor decoded = decodeCursor(cursor);
+		int pageSize = clampCursorPageSize(size);
+		List<GetCustomerListResponse> rows = userSearchIndex.isReady()
+			? hydrateFilling(limit -> userSearchIndex.searchByCursor(keyWord, decoded, direction, limit), pageSize + 1)
+				.getRows()
+			: userQueryRepository.searchCustomerListByCursor(keyWord, decoded, direction, pageSize + 1);
+
+		return CursorPagedResponse.of(rows, pageSize, decoded, direction, ManagerService::cursorOf, Function.identity());
+	}
+
+	private Page<GetCustomerListResponse> searchIndex(String keyWord, Pageable pageable) {
+		long offset = pageable.getOffset();
+		long[] totalHits = new long[1];
+		HydratedPage page = hydrateFilling(limit -> {
+			UserSearchHits hits = userSearchIndex.search(keyWord, offset, limit);
+			totalHits[0] = hits.getTotalHits();
+			return hits.getUserIds();
+		}, pageable.getPageSize());
+		// 이 페이지에서 걸러낸 id 만큼은 총 개수에서도 뺀다. 앞 페이지의 남은 id 는 다음 색인 동기화까지 알 수 없다.
+		return new PageImpl<>(page.getRows(), pageable, totalHits[0] - page.getDropped());
+	}
+
+	/**
+	 * 색인이 돌려준 user_id 를 DB 에서 읽어 wanted 개를 채운다.
+	 * 다른 인스턴스에서 방금 탈퇴해 아직 색인에 남아 있는 id 는 조회되지 않으므로, 빠진 만큼 색인에서 더 받아 다시 채운다.
+	 * 색인이 limit 보다 적게 돌려주면 더 없는 것이므로 멈춘다. (커서 페이지의 hasMore 가 남은 id 때문에 false 가 되지 않게 한다)
+	 */
+	private HydratedPage hydrateFilling(IntFunction<List<Long>> searchIds, int wanted) {
+		int limit = wanted;
+		while (true) {
+			List<Long> userIds = searchIds.apply(limit);
+			List<GetCustomerListResponse> rows = hydrateInOrder(userIds);
+			int dropped = userIds.size() - rows.size();
+			if (rows.size() >= wanted || userIds.size() < limit) {
+				return new HydratedPage(rows.size() > wanted ? rows.subList(0, wanted) : rows, dropped);
+			}
+			limit += dropped;
+		}
+	}
+
+	/**
+	 * 검색 색인이 돌려준 user_id 순서대로 DB 에서 해당 페이지만 읽어온다. 없는 id 는 제외된다.
+	 */
+	private List<GetCustomerListResponse> hydrateInOrder(List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, GetCustomerListResponse> byId = userQueryRepository.findCustomerListByIds(userIds).stream()
+			.collect(Collectors.toMap(GetCustomerListResponse::getId, Function.identity()));
+		return userIds.stream()
+			.map(byId::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	private static UserCursor cursorOf(GetCustomerListResponse row) {
+		return UserCursor.of(row.getCreatedAt(), row.getId());
+	}
+
+	private UserCursor decodeCursor(String cursor) {
+		try {
+			return UserCursor.decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException(ManagerErrorStatus.INVALID_CURSOR);
+		}
+	}
+
+	private int clampCursorPageSize(int size) {
+		return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	private static final class HydratedPage {
+
+		private final List<GetCustomerListResponse> rows;
+		private final int dropped;
+	}
+}
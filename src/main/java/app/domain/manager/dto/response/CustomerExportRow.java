@@ -0,0 +1,44 @@
+package app.domain.manager.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.model.entity.enums.UserSex;
+import lombok.Getter;
+
+/**
+ * 고객 내보내기 한 행. 필드명은 일괄 가져오기(CreateUserRequest) 와 맞춰 두어 비밀번호만 채우면 다시 가져올 수 있다.
+ */
+@Getter
+@JsonPropertyOrder({"userId", "username", "email", "nickname", "realName", "phoneNumber", "usersex", "birthdate",
+	"userRole", "createdAt"})
+public class CustomerExportRow {
+
+	private final Long userId;
+	private final String username;
+	private final String email;
+	private final String nickname;
+	private final String realName;
+	private final String phoneNumber;
+	private final UserSex usersex;
+	private final LocalDate birthdate;
+	private final UserRole userRole;
+	private final LocalDateTime createdAt;
+
+	public CustomerExportRow(Long userId, String username, String email, String nickname, String realName,
+		String phoneNumber, UserSex usersex, LocalDate birthdate, UserRole userRole, LocalDateTime createdAt) {
+		this.userId = userId;
+		this.username = username;
+		this.email = email;
+		this.nickname = nickname;
+		this.realName = realName;
+		this.phoneNumber = phoneNumber;
+		this.usersex = usersex;
+		this.birthdate = birthdate;
+		this.userRole = userRole;
+		this.createdAt = createdAt;
+	}
+}
@@ -0,0 +1,25 @@
+package app.domain.manager.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 가져오지 못한 행. line 은 입력 파일의 1부터 시작하는 줄 번호(CSV 는 헤더 포함)이다.
+ */
+@Getter
+@Builder
+public class UserImportError {
+
+	private long line;
+	private String code;
+	private String message;
+
+	public UserImportError() {
+	}
+
+	public UserImportError(long line, String code, String message) {
+		this.line = line;
+		this.code = code;
+		this.message = message;
+	}
+}
@@ -0,0 +1,33 @@
+package app.domain.manager.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 회원 일괄 가져오기 결과
+ * 실패 행은 최대 user.import.max-reported-errors 건까지만 담고, 넘치면 errorsTruncated 로 알린다.
+ */
+@Getter
+@Builder
+public class UserImportResponse {
+
+	private long totalRows;
+	private long importedRows;
+	private long failedRows;
+	private List<UserImportError> errors;
+	private boolean errorsTruncated;
+
+	public UserImportResponse() {
+	}
+
+	public UserImportResponse(long totalRows, long importedRows, long failedRows, List<UserImportError> errors,
+		boolean errorsTruncated) {
+		this.totalRows = totalRows;
+		this.importedRows = importedRows;
+		this.failedRows = failedRows;
+		this.errors = errors;
+		this.errorsTruncated = errorsTruncated;
+	}
+}
@@ -0,0 +1,83 @@
+package app.domain.manager.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import app.domain.manager.dto.response.CustomerExportRow;
+
+/**
+ * 엑셀에서 한글이 깨지지 않도록 BOM 을 먼저 쓰고, 헤더는 CustomerExportRow 필드명을 쓴다.
+ * 쉼표, 큰따옴표, 줄바꿈이 들어간 값만 큰따옴표로 감싼다. (CsvUserImportReader 가 그대로 읽을 수 있는 형식)
+ * 이름, 이메일, 닉네임은 회원이 입력한 값이므로 =, +, -, @, 탭, CR 로 시작하는 값은 앞에 ' 를 붙여
+ * 스프레드시트가 수식으로 실행하지 않게 한다. (CSV injection)
+ */
+class CsvUserExportWriter implements UserExportWriter {
+
+	private static final List<String> HEADER = List.of("userId", "username", "email", "nickname", "realName",
+		"phoneNumber", "usersex", "birthdate", "userRole", "createdAt");
+
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	private final Writer writer;
+
+	CsvUserExportWriter(OutputStream out) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writer.write('\uFEFF');
+		writeLine(HEADER);
+	}
+
+	@Override
+	public void write(CustomerExportRow row) throws IOException {
+		writeLine(List.of(
+			text(row.getUserId()),
+			text(row.getUsername()),
+			text(row.getEmail()),
+			text(row.getNickname()),
+			text(row.getRealName()),
+			text(row.getPhoneNumber()),
+			text(row.getUsersex()),
+			text(row.getBirthdate()),
+			text(row.getUserRole()),
+			text(row.getCreatedAt())));
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+
+	private void writeLine(List<String> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(escape(values.get(i)));
+		}
+		writer.write('\n');
+	}
+
+	private static String text(Object value) {
+		return Objects.toString(value, "");
+	}
+
+	static String escape(String value) {
+		if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+			value = "'" + value;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
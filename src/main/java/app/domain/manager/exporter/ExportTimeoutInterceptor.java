@@ -0,0 +1,38 @@
+package app.domain.manager.exporter;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 내보내기 요청에만 긴 비동기 타임아웃(user.export.timeout)을 건다.
+ * StreamingResponseBody 는 요청별 타임아웃을 지정할 방법이 없어, 비동기 처리가 시작되기 직전에 호출되는
+ * beforeConcurrentHandling 에서 그 요청의 타임아웃을 바꾼다. 다른 요청은 기본 타임아웃을 그대로 쓴다.
+ */
+@Component
+public class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+	private static final String KEY = ExportTimeoutInterceptor.class.getName();
+
+	@Value("${user.export.timeout:30m}")
+	private Duration timeout;
+
+	public void applyTo(HttpServletRequest request) {
+		WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(KEY, this);
+	}
+
+	@Override
+	public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+		if (request instanceof AsyncWebRequest asyncWebRequest) {
+			asyncWebRequest.setTimeout(timeout.toMillis());
+		}
+	}
+}
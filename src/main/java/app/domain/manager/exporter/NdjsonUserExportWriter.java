@@ -0,0 +1,46 @@
+package app.domain.manager.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import app.domain.manager.dto.response.CustomerExportRow;
+
+/**
+ * 한 줄에 CustomerExportRow JSON 하나. 공용 ObjectMapper 설정(날짜 형식 등)을 그대로 따른다.
+ * 행마다 flush 하지 않고 UserExportService 가 정한 간격으로만 flush 한다.
+ */
+class NdjsonUserExportWriter implements UserExportWriter {
+
+	private final JsonGenerator generator;
+	private final ObjectWriter rowWriter;
+
+	NdjsonUserExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+		this.generator = objectMapper.getFactory().createGenerator(out);
+		// close 는 JSON 생성기만 닫는다. 응답 스트림은 서블릿 컨테이너가 닫는다.
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		generator.setRootValueSeparator(null);
+		this.rowWriter = objectMapper.writerFor(CustomerExportRow.class)
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	@Override
+	public void write(CustomerExportRow row) throws IOException {
+		rowWriter.writeValue(generator, row);
+		generator.writeRaw('\n');
+	}
+
+	@Override
+	public void flush() throws IOException {
+		generator.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+	}
+}
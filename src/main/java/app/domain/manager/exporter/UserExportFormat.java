@@ -0,0 +1,36 @@
+package app.domain.manager.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public enum UserExportFormat {
+	CSV("text/csv;charset=UTF-8", "csv"),
+	NDJSON("application/x-ndjson", "ndjson");
+
+	private final MediaType mediaType;
+	private final String extension;
+
+	UserExportFormat(String mediaType, String extension) {
+		this.mediaType = MediaType.parseMediaType(mediaType);
+		this.extension = extension;
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	public String fileName(String baseName) {
+		return baseName + "." + extension;
+	}
+
+	UserExportWriter open(OutputStream out, ObjectMapper objectMapper) throws IOException {
+		return switch (this) {
+			case CSV -> new CsvUserExportWriter(out);
+			case NDJSON -> new NdjsonUserExportWriter(out, objectMapper);
+		};
+	}
+}
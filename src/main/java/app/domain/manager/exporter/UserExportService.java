@@ -0,0 +1,93 @@
+package app.domain.manager.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.manager.ManagerRoleChecker;
+import app.domain.manager.dto.response.CustomerExportRow;
+import app.domain.user.model.UserQueryRepository;
+import app.domain.user.model.entity.enums.UserRole;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 전체 내보내기
+ * - p_user 를 user.export.fetch-size 행씩 forward-only 커서로 읽어 응답 스트림에 바로 쓰므로 힙 사용량은 행 수와 무관하다.
+ *   엔티티가 아닌 DTO 프로젝션으로 읽어 영속성 컨텍스트에 아무것도 쌓이지 않는다.
+ * - 읽기 전용 REPEATABLE READ 트랜잭션 하나로 읽어 내보내는 도중 가입/탈퇴가 있어도 시작 시점의 스냅샷이 나온다.
+ *   replica 를 설정하면 이 트랜잭션은 replica 에서 열리므로 스냅샷은 replica 가 재생한 시점(복제 지연만큼 이전) 기준이다.
+ *   긴 내보내기가 복구 충돌로 취소되지 않도록 replica 는 hot_standby_feedback 을 켜거나 max_standby_streaming_delay 를 넉넉히 둔다.
+ * - 클라이언트가 연결을 끊으면 다음 flush 에서 IOException 이 나고, 커서와 트랜잭션을 닫고 중단한다.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+	private final UserQueryRepository userQueryRepository;
+	private final ManagerRoleChecker managerRoleChecker;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate snapshotTransaction;
+
+	@Value("${user.export.fetch-size:1000}")
+	private int fetchSize;
+
+	public UserExportService(UserQueryRepository userQueryRepository, ManagerRoleChecker managerRoleChecker,
+		ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+		this.userQueryRepository = userQueryRepository;
+		this.managerRoleChecker = managerRoleChecker;
+		this.objectMapper = objectMapper;
+		this.snapshotTransaction = new TransactionTemplate(transactionManager);
+		this.snapshotTransaction.setReadOnly(true);
+		this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+	}
+
+	/**
+	 * 권한은 응답을 쓰기 전에 확인해 일반 오류 응답으로 돌려주고, 실제 조회는 반환된 본문을 쓸 때 비동기 스레드에서 한다.
+	 */
+	public StreamingResponseBody exportCustomers(UserExportFormat format, Authentication authentication) {
+		managerRoleChecker.check(authentication);
+		return out -> export(format, out);
+	}
+
+	void export(UserExportFormat format, OutputStream out) throws IOException {
+		long startedAt = System.currentTimeMillis();
+		Long rows;
+		try {
+			rows = snapshotTransaction.execute(status -> write(format, out));
+		} catch (UncheckedIOException e) {
+			log.info("고객 내보내기가 중단되었습니다. format={}, reason={}", format, e.getCause().getMessage());
+			throw e.getCause();
+		}
+		log.info("고객 내보내기 완료. format={}, rows={}, elapsedMs={}", format, rows,
+			System.currentTimeMillis() - startedAt);
+	}
+
+	private long write(UserExportFormat format, OutputStream out) {
+		long rows = 0;
+		try (Stream<CustomerExportRow> stream = userQueryRepository.streamCustomers(UserRole.CUSTOMER, fetchSize);
+			 UserExportWriter writer = format.open(out, objectMapper)) {
+			Iterator<CustomerExportRow> iterator = stream.iterator();
+			while (iterator.hasNext()) {
+				writer.write(iterator.next());
+				if (++rows % fetchSize == 0) {
+					writer.flush();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,16 @@
+package app.domain.manager.exporter;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import app.domain.manager.dto.response.CustomerExportRow;
+
+interface UserExportWriter extends Closeable {
+
+	void write(CustomerExportRow row) throws IOException;
+
+	/**
+	 * 버퍼를 응답으로 내보낸다. 클라이언트가 연결을 끊었다면 여기서 IOException 이 난다.
+	 */
+	void flush() throws IOException;
+}
@@ -0,0 +1,101 @@
+package app.domain.manager.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.user.model.dto.request.CreateUserRequest;
+
+/**
+ * 첫 줄은 CreateUserRequest 필드명(username,password,email,...) 헤더, 이후 한 줄에 한 회원.
+ * 큰따옴표로 감싼 값 안의 쉼표와 "" 이스케이프를 지원하며, 값 안의 줄바꿈은 지원하지 않는다.
+ */
+class CsvUserImportReader implements UserImportReader {
+
+	private final BufferedReader reader;
+	private final ObjectMapper objectMapper;
+	private List<String> header;
+	private long line;
+
+	CsvUserImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public UserImportRow next() throws IOException {
+		if (header == null) {
+			String first = reader.readLine();
+			if (first == null) {
+				return null;
+			}
+			line++;
+			header = split(first.startsWith("\uFEFF") ? first.substring(1) : first).stream()
+				.map(String::trim)
+				.toList();
+		}
+
+		String text;
+		do {
+			text = reader.readLine();
+			if (text == null) {
+				return null;
+			}
+			line++;
+		} while (text.isBlank());
+
+		List<String> values = split(text);
+		if (values.size() != header.size()) {
+			return UserImportRow.failed(line,
+				"열 개수가 헤더와 다릅니다. (헤더 " + header.size() + "개, 값 " + values.size() + "개)");
+		}
+		Map<String, String> fields = new HashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			String value = values.get(i).trim();
+			fields.put(header.get(i), value.isEmpty() ? null : value);
+		}
+		try {
+			return UserImportRow.parsed(line, objectMapper.convertValue(fields, CreateUserRequest.class));
+		} catch (IllegalArgumentException e) {
+			return UserImportRow.failed(line, "값을 해석할 수 없습니다: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	static List<String> split(String text) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+}
@@ -0,0 +1,47 @@
+package app.domain.manager.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.user.model.dto.request.CreateUserRequest;
+
+/**
+ * 한 줄에 CreateUserRequest JSON 객체 하나. 빈 줄은 건너뛴다.
+ */
+class NdjsonUserImportReader implements UserImportReader {
+
+	private final BufferedReader reader;
+	private final ObjectMapper objectMapper;
+	private long line;
+
+	NdjsonUserImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public UserImportRow next() throws IOException {
+		String text;
+		do {
+			text = reader.readLine();
+			if (text == null) {
+				return null;
+			}
+			line++;
+		} while (text.isBlank());
+
+		try {
+			return UserImportRow.parsed(line, objectMapper.readValue(text, CreateUserRequest.class));
+		} catch (JsonProcessingException e) {
+			return UserImportRow.failed(line, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,46 @@
+package app.domain.manager.importer;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+
+public enum UserImportFormat {
+	NDJSON("application/x-ndjson"),
+	CSV("text/csv");
+
+	private final MediaType mediaType;
+
+	UserImportFormat(String mediaType) {
+		this.mediaType = MediaType.parseMediaType(mediaType);
+	}
+
+	public String getMediaType() {
+		return mediaType.toString();
+	}
+
+	public static UserImportFormat from(String contentType) {
+		MediaType requested = MediaType.parseMediaType(contentType);
+		for (UserImportFormat format : values()) {
+			if (format.mediaType.includes(requested)) {
+				return format;
+			}
+		}
+		throw new GeneralException(ErrorStatus._BAD_REQUEST);
+	}
+
+	UserImportReader open(InputStream body, ObjectMapper objectMapper) {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		return switch (this) {
+			case NDJSON -> new NdjsonUserImportReader(reader, objectMapper);
+			case CSV -> new CsvUserImportReader(reader, objectMapper);
+		};
+	}
+}
@@ -0,0 +1,15 @@
+package app.domain.manager.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 입력 스트림을 한 줄씩 읽어 행으로 돌려준다. 전체를 메모리에 올리지 않는다.
+ */
+interface UserImportReader extends Closeable {
+
+	/**
+	 * @return 다음 행, 더 없으면 null
+	 */
+	UserImportRow next() throws IOException;
+}
@@ -0,0 +1,45 @@
+package app.domain.manager.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import app.domain.manager.dto.response.UserImportError;
+import app.domain.manager.dto.response.UserImportResponse;
+
+/**
+ * 가져오기 진행 집계. 실패 행은 상한까지만 보관해 입력 크기와 무관하게 메모리를 일정하게 유지한다.
+ */
+class UserImportReport {
+
+	private final int maxReportedErrors;
+	private final List<UserImportError> errors = new ArrayList<>();
+	private long totalRows;
+	private long importedRows;
+	private long failedRows;
+	private boolean errorsTruncated;
+
+	UserImportReport(int maxReportedErrors) {
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	void row() {
+		totalRows++;
+	}
+
+	void imported(int count) {
+		importedRows += count;
+	}
+
+	void fail(long line, String code, String message) {
+		failedRows++;
+		if (errors.size() < maxReportedErrors) {
+			errors.add(new UserImportError(line, code, message));
+		} else {
+			errorsTruncated = true;
+		}
+	}
+
+	UserImportResponse toResponse() {
+		return new UserImportResponse(totalRows, importedRows, failedRows, errors, errorsTruncated);
+	}
+}
@@ -0,0 +1,25 @@
+package app.domain.manager.importer;
+
+import app.domain.user.model.dto.request.CreateUserRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 입력 한 줄. 해석에 실패했으면 request 대신 parseError 가 채워진다.
+ */
+@Getter
+@AllArgsConstructor
+class UserImportRow {
+
+	private final long line;
+	private final CreateUserRequest request;
+	private final String parseError;
+
+	static UserImportRow parsed(long line, CreateUserRequest request) {
+		return new UserImportRow(line, request, null);
+	}
+
+	static UserImportRow failed(long line, String parseError) {
+		return new UserImportRow(line, null, parseError);
+	}
+}
@@ -0,0 +1,303 @@
+package app.domain.manager.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.domain.manager.ManagerRoleChecker;
+import app.domain.manager.dto.response.UserImportResponse;
+import app.domain.user.event.UserCreatedEvent;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.dto.request.CreateUserRequest;
+import app.domain.user.model.entity.User;
+import app.domain.user.status.UserErrorStatus;
+import app.domain.user.uniqueness.UniqueField;
+import app.domain.user.uniqueness.UserUniqueValuesView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 일괄 가져오기 (파트너 브랜드 이관용)
+ * - 입력을 user.import.chunk-size 행씩 읽어 처리하므로 메모리 사용량은 파일 크기와 무관하다.
+ * - 행 검증은 회원가입과 같은 CreateUserRequest 제약(컬럼 길이 포함)을 쓰고, unique 값 중복은 청크 안에서 한 번, DB 에 한 번의 IN 조회로 확인한다.
+ * - 그래도 DB 가 행의 값을 거부하면(제약 위반, 데이터 오류) 그 청크만 행 단위로 다시 넣어 해당 행만 실패로 보고한다.
+ * - 비밀번호는 가입용 풀과 분리된 userImportHashExecutor 에서 병렬로 해싱한다.
+ * - 청크마다 별도 트랜잭션으로 JDBC 배치 INSERT 하고 영속성 컨텍스트를 비운다.
+ * 앞선 청크는 이미 커밋되므로 같은 파일을 다시 올리면 가져온 행은 중복으로 보고되고 나머지만 가져온다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+	private static final String UNIQUE_VIOLATION = "23505";
+	private static final Set<String> ROW_DATA_ERROR_CLASSES = Set.of("22", "23");
+
+	private final UserRepository userRepository;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolTaskExecutor hashExecutor;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ManagerRoleChecker managerRoleChecker;
+
+	@Value("${user.import.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${user.import.max-reported-errors:1000}")
+	private int maxReportedErrors;
+
+	public UserImportService(UserRepository userRepository, EntityManager entityManager,
+		TransactionTemplate transactionTemplate, PasswordEncoder passwordEncoder,
+		@Qualifier("userImportHashExecutor") ThreadPoolTaskExecutor hashExecutor, Validator validator,
+		ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+		ManagerRoleChecker managerRoleChecker) {
+		this.userRepository = userRepository;
+		this.entityManager = entityManager;
+		this.transactionTemplate = transactionTemplate;
+		this.passwordEncoder = passwordEncoder;
+		this.hashExecutor = hashExecutor;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.eventPublisher = eventPublisher;
+		this.managerRoleChecker = managerRoleChecker;
+	}
+
+	public UserImportResponse importUsers(InputStream body, UserImportFormat format, Authentication authentication) {
+		managerRoleChecker.check(authentication);
+
+		UserImportReport report = new UserImportReport(maxReportedErrors);
+		List<UserImportRow> chunk = new ArrayList<>(chunkSize);
+		long lastLine = 0;
+		try (UserImportReader reader = format.open(body, objectMapper)) {
+			UserImportRow row;
+			while ((row = reader.next()) != null) {
+				lastLine = row.getLine();
+				chunk.add(row);
+				if (chunk.size() == chunkSize) {
+					importChunk(chunk, report);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				importChunk(chunk, report);
+			}
+		} catch (IOException e) {
+			// 이미 커밋된 청크는 유지되므로 예외 대신 어디서 끊겼는지를 결과에 남긴다.
+			log.warn("회원 가져오기 입력을 읽는 중 중단되었습니다. line={}", lastLine, e);
+			report.fail(lastLine + 1, ErrorStatus._BAD_REQUEST.getCode(), "입력을 읽는 중 중단되었습니다. 이후 행은 처리되지 않았습니다.");
+		}
+		return report.toResponse();
+	}
+
+	private void importChunk(List<UserImportRow> rows, UserImportReport report) {
+		List<UserImportRow> candidates = new ArrayList<>(rows.size());
+		Map<UniqueField, Set<String>> seenInChunk = emptyValues();
+		for (UserImportRow row : rows) {
+			report.row();
+			if (row.getParseError() != null) {
+				report.fail(row.getLine(), ErrorStatus._BAD_REQUEST.getCode(), row.getParseError());
+				continue;
+			}
+			Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(row.getRequest());
+			if (!violations.isEmpty()) {
+				report.fail(row.getLine(), ErrorStatus._BAD_REQUEST.getCode(), describe(violations));
+				continue;
+			}
+			UniqueField duplicated = findDuplicate(row.getRequest(), seenInChunk);
+			if (duplicated != null) {
+				failDuplicate(report, row, duplicated);
+				continue;
+			}
+			for (UniqueField field : UniqueField.values()) {
+				seenInChunk.get(field).add(valueOf(field, row.getRequest()));
+			}
+			candidates.add(row);
+		}
+		if (candidates.isEmpty()) {
+			return;
+		}
+
+		Map<UniqueField, Set<String>> existing = findExistingValues(seenInChunk);
+		List<UserImportRow> accepted = new ArrayList<>(candidates.size());
+		for (UserImportRow row : candidates) {
+			UniqueField duplicated = findDuplicate(row.getRequest(), existing);
+			if (duplicated != null) {
+				failDuplicate(report, row, duplicated);
+			} else {
+				accepted.add(row);
+			}
+		}
+		if (accepted.isEmpty()) {
+			return;
+		}
+
+		insert(accepted, hashPasswords(accepted), report);
+	}
+
+	private List<String> hashPasswords(List<UserImportRow> rows) {
+		// 풀과 큐가 가득 차면 호출 스레드가 직접 해싱(CallerRunsPolicy)하므로 거절 없이 속도만 조절된다.
+		List<CompletableFuture<String>> futures = rows.stream()
+			.map(row -> CompletableFuture.supplyAsync(
+				() -> passwordEncoder.encode(row.getRequest().getPassword()), hashExecutor))
+			.toList();
+		return futures.stream().map(CompletableFuture::join).toList();
+	}
+
+	private void insert(List<UserImportRow> rows, List<String> hashes, UserImportReport report) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> persist(rows, hashes));
+			report.imported(rows.size());
+		} catch (DataAccessException | PersistenceException e) {
+			if (!isRowDataError(e)) {
+				throw e;
+			}
+			// 조회 이후 다른 경로로 같은 값이 가입됐거나 DB 가 어떤 행의 값을 거부한 경우:
+			// 청크 전체가 롤백되었으므로 행 단위로 다시 넣어 해당 행만 실패 처리한다.
+			log.info("회원 가져오기 청크를 DB 가 거부해 행 단위로 다시 시도합니다. rows={}, sqlState={}", rows.size(),
+				sqlStateOf(e));
+			for (int i = 0; i < rows.size(); i++) {
+				List<UserImportRow> single = List.of(rows.get(i));
+				List<String> singleHash = List.of(hashes.get(i));
+				try {
+					transactionTemplate.executeWithoutResult(status -> persist(single, singleHash));
+					report.imported(1);
+				} catch (DataAccessException | PersistenceException ex) {
+					failRejectedRow(report, rows.get(i), ex);
+				}
+			}
+		}
+	}
+
+	private static void failRejectedRow(UserImportReport report, UserImportRow row, RuntimeException e) {
+		if (UNIQUE_VIOLATION.equals(sqlStateOf(e))) {
+			report.fail(row.getLine(), UserErrorStatus.USER_ALREADY_EXISTS.getCode(),
+				UserErrorStatus.USER_ALREADY_EXISTS.getMessage());
+			return;
+		}
+		if (!isRowDataError(e)) {
+			throw e;
+		}
+		report.fail(row.getLine(), ErrorStatus._BAD_REQUEST.getCode(),
+			"DB 가 행의 값을 거부했습니다. (SQLState=" + sqlStateOf(e) + ")");
+	}
+
+	/**
+	 * persist() 는 TransactionTemplate 안에서 EntityManager 를 직접 flush 하므로 예외 변환을 거치지 않는다.
+	 * Hibernate 예외가 그대로(또는 PersistenceException 에 감싸여) 올라오므로 원인을 따라가 드라이버의 SQLState 를 찾는다.
+	 */
+	private static String sqlStateOf(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+				return sqlException.getSQLState();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 행의 값 때문에 난 오류(SQLState 클래스 22: 데이터 오류, 23: 무결성 제약 위반)인지. 커넥션 끊김 등은 false.
+	 */
+	private static boolean isRowDataError(Throwable e) {
+		String sqlState = sqlStateOf(e);
+		return sqlState != null && sqlState.length() >= 2 && ROW_DATA_ERROR_CLASSES.contains(sqlState.substring(0, 2));
+	}
+
+	private void persist(List<UserImportRow> rows, List<String> hashes) {
+		for (int i = 0; i < rows.size(); i++) {
+			User user = toUser(rows.get(i).getRequest(), hashes.get(i));
+			entityManager.persist(user);
+			eventPublisher.publishEvent(UserCreatedEvent.from(user));
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private Map<UniqueField, Set<String>> findExistingValues(Map<UniqueField, Set<String>> values) {
+		Map<UniqueField, Set<String>> existing = emptyValues();
+		for (UserUniqueValuesView view : userRepository.findUniqueValuesMatching(values.get(UniqueField.USERNAME),
+			values.get(UniqueField.EMAIL), values.get(UniqueField.NICKNAME), values.get(UniqueField.PHONE_NUMBER))) {
+			existing.get(UniqueField.USERNAME).add(view.getUsername());
+			existing.get(UniqueField.EMAIL).add(view.getEmail());
+			existing.get(UniqueField.NICKNAME).add(view.getNickname());
+			existing.get(UniqueField.PHONE_NUMBER).add(view.getPhoneNumber());
+		}
+		return existing;
+	}
+
+	private static UniqueField findDuplicate(CreateUserRequest request, Map<UniqueField, Set<String>> values) {
+		for (UniqueField field : UniqueField.values()) {
+			if (values.get(field).contains(valueOf(field, request))) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	private static void failDuplicate(UserImportReport report, UserImportRow row, UniqueField field) {
+		report.fail(row.getLine(), field.getDuplicateStatus().getCode(), field.getDuplicateStatus().getMessage());
+	}
+
+	private static Map<UniqueField, Set<String>> emptyValues() {
+		Map<UniqueField, Set<String>> values = new EnumMap<>(UniqueField.class);
+		for (UniqueField field : UniqueField.values()) {
+			values.put(field, new HashSet<>());
+		}
+		return values;
+	}
+
+	private static String valueOf(UniqueField field, CreateUserRequest request) {
+		return switch (field) {
+			case USERNAME -> request.getUsername();
+			case EMAIL -> request.getEmail();
+			case NICKNAME -> request.getNickname();
+			case PHONE_NUMBER -> request.getPhoneNumber();
+		};
+	}
+
+	private static String describe(Set<ConstraintViolation<CreateUserRequest>> violations) {
+		return violations.stream()
+			.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+			.sorted()
+			.collect(Collectors.joining(", "));
+	}
+
+	private static User toUser(CreateUserRequest request, String encryptedPassword) {
+		return User.builder()
+			.username(request.getUsername())
+			.password(encryptedPassword)
+			.email(request.getEmail())
+			.nickname(request.getNickname())
+			.realName(request.getRealName())
+			.phoneNumber(request.getPhoneNumber())
+			.usersex(request.getUsersex())
+			.birthdate(request.getBirthdate())
+			.userRole(request.getUserRole())
+			.build();
+	}
+}
@@ -11,7 +11,9 @@ import lombok.Getter;
 @Getter
 public enum ManagerErrorStatus implements BaseCode {
 
-	INVALID_STORE_STATUS(HttpStatus.NOT_FOUND,"STORE001","이미 처리된 상태명 입니다.");
+	INVALID_STORE_STATUS(HttpStatus.NOT_FOUND,"STORE001","이미 처리된 상태명 입니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "MANAGER001", "유효하지 않은 페이지 커서입니다."),
+	TOO_MANY_USER_IDS(HttpStatus.BAD_REQUEST, "MANAGER002", "한 번에 조회할 수 있는 사용자 수를 초과했습니다.");
 
 
 	private final HttpStatus httpStatus;
@@ -13,7 +13,9 @@ public enum ManagerSuccessStatus implements BaseCode {
 
 	MANAGER_GET_CUSTOMER_OK(HttpStatus.OK, "MANAGER200", "관리자의 유저 목록 조회가 성공했습니다."),
 	MANAGER_GET_CUSTOMER_DETAIL_OK(HttpStatus.OK, "MANAGER201", "관리자의 유저 상세 조회가 성공했습니다."),
-	MANAGER_SEARCH_CUSTOMER_OK(HttpStatus.OK, "MANAGER203", "관리자의 유저 검색이 성공했습니다.");
+	MANAGER_SEARCH_CUSTOMER_OK(HttpStatus.OK, "MANAGER203", "관리자의 유저 검색이 성공했습니다."),
+	MANAGER_GET_CUSTOMER_DETAILS_OK(HttpStatus.OK, "MANAGER204", "관리자의 유저 상세 일괄 조회가 성공했습니다."),
+	MANAGER_IMPORT_CUSTOMER_OK(HttpStatus.OK, "MANAGER205", "관리자의 유저 일괄 가져오기가 완료되었습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -6,15 +6,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.domain.user.model.dto.request.CreateUserRequest;
+import app.domain.user.model.dto.response.CheckAvailabilityResponse;
 import app.domain.user.model.dto.response.CreateUserResponse;
 import app.domain.user.model.dto.response.GetUserInfoResponse;
 import app.domain.user.status.UserSuccessStatus;
+import app.domain.user.uniqueness.AvailabilityRateLimiter;
+import app.domain.user.uniqueness.UniqueField;
 import app.commonUtil.apiPayload.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
 	private final UserService userService;
+	private final AvailabilityRateLimiter availabilityRateLimiter;
 
 	@Operation(summary = "회원가입 API", description = "새로운 사용자를 등록합니다. 모든 필드는 유효성 검사를 거칩니다.")
 	@PostMapping("/signup")
@@ -46,4 +52,16 @@ public class UserController {
 		GetUserInfoResponse response = userService.getUserInfo(authentication);
 		return ApiResponse.onSuccess(UserSuccessStatus.USER_PROFILE_FETCHED, response);
 	}
-}
\ No newline at end of file
+
+	@GetMapping("/availability")
+	@Operation(summary = "사용 가능 여부 조회 API", description = "아이디, 이메일, 닉네임, 전화번호가 이미 사용 중인지 조회합니다.")
+	public ApiResponse<CheckAvailabilityResponse> checkAvailability(
+		@RequestParam UniqueField field,
+		@RequestParam String value,
+		HttpServletRequest request
+	) {
+		availabilityRateLimiter.acquire(request.getRemoteAddr());
+		CheckAvailabilityResponse response = userService.checkAvailability(field, value);
+		return ApiResponse.onSuccess(UserSuccessStatus.AVAILABILITY_CHECKED, response);
+	}
+}
@@ -1,24 +1,34 @@
 package app.domain.user;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
-import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.commonUtil.security.TokenPrincipalParser;
-import app.domain.user.client.InternalAuthClient;
+import app.domain.user.event.UserCreatedEvent;
+import app.domain.user.event.UserWithdrawnEvent;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.dto.request.CreateUserRequest;
+import app.domain.user.model.dto.response.CheckAvailabilityResponse;
 import app.domain.user.model.dto.response.CreateUserResponse;
 import app.domain.user.model.dto.response.GetUserInfoResponse;
 import app.domain.user.model.entity.User;
+import app.domain.user.outbox.OutboxEvent;
+import app.domain.user.outbox.OutboxEventRepository;
+import app.domain.user.password.PasswordHasher;
 import app.domain.user.status.UserErrorStatus;
+import app.domain.user.uniqueness.UniqueField;
+import app.domain.user.uniqueness.UniqueFieldFilter;
+import app.global.security.AuthenticatedUser;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,16 +40,22 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
-	private final InternalAuthClient internalAuthClient;
+	private final PasswordHasher passwordHasher;
+	private final OutboxEventRepository outboxEventRepository;
 	private final TokenPrincipalParser tokenPrincipalParser;
-
-	@Transactional
+	private final ApplicationEventPublisher eventPublisher;
+	private final UniqueFieldFilter uniqueFieldFilter;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 중복 검증과 비밀번호 해싱은 트랜잭션 밖에서 수행하고, 저장만 짧은 트랜잭션으로 묶는다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public CreateUserResponse createUser(CreateUserRequest createUserRequest) {
 
 		validateUserUniqueness(createUserRequest);
 
-		String encryptedPassword = passwordEncoder.encode(createUserRequest.getPassword());
+		String encryptedPassword = passwordHasher.hash(createUserRequest.getPassword());
 
 		User user = User.builder()
 			.username(createUserRequest.getUsername())
@@ -54,8 +70,15 @@ public class UserService {
 			.build();
 
 		try {
-			User savedUser = userRepository.save(user);
-			return CreateUserResponse.from(savedUser);
+			return transactionTemplate.execute(status -> {
+				User savedUser = userRepository.save(user);
+				eventPublisher.publishEvent(UserCreatedEvent.from(savedUser));
+				return CreateUserResponse.from(savedUser);
+			});
+		} catch (DataIntegrityViolationException e) {
+			// 다른 인스턴스의 가입이 아직 필터에 반영되지 않은 경우 unique 제약이 최종 방어선이 된다.
+			log.warn("동시 가입으로 unique 제약 위반이 발생했습니다.", e);
+			throw new GeneralException(UserErrorStatus.USER_ALREADY_EXISTS);
 		} catch (DataAccessException e) {
 			log.error("데이터베이스에 사용자 등록을 실패했습니다.", e);
 			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
@@ -68,50 +91,73 @@ public class UserService {
 
 	@Transactional
 	public void withdrawMembership(Authentication authentication) {
-		String userIdStr = tokenPrincipalParser.getUserId(authentication);
-		Long userId = Long.parseLong(userIdStr);
+		Long userId = AuthenticatedUser.userId(authentication, tokenPrincipalParser);
 
 		User user = userRepository.findByUserId(userId)
 				.orElseThrow(()->new GeneralException(ErrorStatus.USER_NOT_FOUND));
 		user.anonymizeForWithdrawal();
 		userRepository.delete(user);
-		try {
-			ApiResponse<Void> response =internalAuthClient.logout();
-		} catch (HttpServerErrorException | HttpClientErrorException e){
-			log.error("AuthService Error: {}",e.getResponseBodyAsString());
-			throw new GeneralException(UserErrorStatus.LOGOUT_FAILED);
-		}
+		eventPublisher.publishEvent(new UserWithdrawnEvent(userId));
+		// Auth 서비스 로그아웃은 같은 트랜잭션에 outbox 로 기록하고 OutboxDispatcher 가 전달한다.
+		outboxEventRepository.save(OutboxEvent.authLogout(userId));
 	}
 
 	@Transactional
 	public GetUserInfoResponse getUserInfo(Authentication authentication) {
-		String userIdStr = tokenPrincipalParser.getUserId(authentication);
-		Long userId = Long.parseLong(userIdStr);
+		Long userId = AuthenticatedUser.userId(authentication, tokenPrincipalParser);
 
 		User currentUser = userRepository.findByUserId(userId)
 			.orElseThrow(()->new GeneralException(ErrorStatus.USER_NOT_FOUND));
 		return GetUserInfoResponse.from(currentUser);
 	}
 
+	public CheckAvailabilityResponse checkAvailability(UniqueField field, String value) {
+		if (!uniqueFieldFilter.mightContain(field, value)) {
+			return CheckAvailabilityResponse.of(field, true);
+		}
+		boolean exists = switch (field) {
+			case USERNAME -> userRepository.existsByUsername(value);
+			case EMAIL -> userRepository.existsByEmail(value);
+			case NICKNAME -> userRepository.existsByNickname(value);
+			case PHONE_NUMBER -> userRepository.existsByPhoneNumber(value);
+		};
+		return CheckAvailabilityResponse.of(field, !exists);
+	}
+
+	/**
+	 * 블룸 필터가 "확실히 없음" 이라고 답한 필드는 조건에서 빼고, 남은 필드만 DB 로 확인한다.
+	 */
 	private void validateUserUniqueness(CreateUserRequest createUserRequest) {
+		String username = maybeTaken(UniqueField.USERNAME, createUserRequest.getUsername());
+		String email = maybeTaken(UniqueField.EMAIL, createUserRequest.getEmail());
+		String nickname = maybeTaken(UniqueField.NICKNAME, createUserRequest.getNickname());
+		String phoneNumber = maybeTaken(UniqueField.PHONE_NUMBER, createUserRequest.getPhoneNumber());
+		if (username == null && email == null && nickname == null && phoneNumber == null) {
+			return;
+		}
+
 		userRepository.findFirstByUniqueFields(
-			createUserRequest.getUsername(),
-			createUserRequest.getEmail(),
-			createUserRequest.getNickname(),
-			createUserRequest.getPhoneNumber()
+			username,
+			email,
+			nickname,
+			phoneNumber
 		).ifPresent(user -> {
-			if (user.getUsername().equals(createUserRequest.getUsername())) {
+			if (createUserRequest.getUsername().equals(user.getUsername())) {
 				throw new GeneralException(UserErrorStatus.USER_ALREADY_EXISTS);
 			}
-			if (user.getEmail().equals(createUserRequest.getEmail())) {
+			if (createUserRequest.getEmail().equals(user.getEmail())) {
 				throw new GeneralException(UserErrorStatus.EMAIL_ALREADY_EXISTS);
 			}
-			if (user.getNickname().equals(createUserRequest.getNickname())) {
+			if (createUserRequest.getNickname().equals(user.getNickname())) {
 				throw new GeneralException(UserErrorStatus.NICKNAME_ALREADY_EXISTS);
 			}
-			if (user.getPhoneNumber().equals(createUserRequest.getPhoneNumber())) {
+			if (createUserRequest.getPhoneNumber().equals(user.getPhoneNumber())) {
 				throw new GeneralException(UserErrorStatus.PHONE_NUMBER_ALREADY_EXISTS);
 			}
 		});
 	}
-}
\ No newline at end of file
+
+	private String maybeTaken(UniqueField field, String value) {
+		return uniqueFieldFilter.mightContain(field, value) ? value : null;
+	}
+}
@@ -0,0 +1,205 @@
+package app.domain.user.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.domain.user.event.UserAddressChangedEvent;
+import app.domain.user.event.UserWithdrawnEvent;
+import app.global.cache.CacheNames;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 단위 캐시(프로필, 배송지 목록) 무효화
+ * - 탈퇴나 배송지 변경이 커밋되면 이 인스턴스의 캐시를 즉시 비우고, Postgres NOTIFY 로 다른 인스턴스에 알린다.
+ * - 각 인스턴스는 커넥션 풀 밖의 전용 커넥션(spring.datasource 의 URL, 계정)으로 LISTEN 하다가 알림을 받으면
+ *   해당 회원의 캐시를 비운다. 풀 커넥션을 계속 잡고 있지 않으므로 maximum-pool-size 는 그대로 요청 처리에 쓰이고,
+ *   인스턴스마다 DB 커넥션이 하나 더 열린다.
+ * - 리스너 커넥션이 끊긴 동안 놓친 알림은 알 수 없으므로 재연결 시 회원 단위 캐시 전체를 비운다.
+ * 알림 유실 시에도 캐시 TTL(user.cache.profile.ttl, user.cache.address.ttl) 이 최대 지연 시간이 된다.
+ */
+@Slf4j
+@Component
+public class UserCacheInvalidator implements SmartLifecycle {
+
+	private static final String CHANNEL = "user_cache_invalidation";
+	private static final String DELIMITER = ":";
+
+	private final CacheManager cacheManager;
+	private final DataSource listenerDataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final String instanceId = UUID.randomUUID().toString();
+
+	@Value("${user.cache.invalidation.enabled:true}")
+	private boolean enabled;
+
+	@Value("${user.cache.invalidation.poll-timeout-ms:1000}")
+	private int pollTimeoutMs;
+
+	@Value("${user.cache.invalidation.reconnect-delay-ms:5000}")
+	private long reconnectDelayMs;
+
+	private volatile boolean running = false;
+	private Thread listenerThread;
+
+	@Autowired
+	public UserCacheInvalidator(CacheManager cacheManager, DataSource dataSource, DataSourceProperties properties) {
+		this(cacheManager, dataSource, listenerDataSource(properties));
+	}
+
+	/**
+	 * @param dataSource NOTIFY 를 보내는 풀 데이터소스
+	 * @param listenerDataSource LISTEN 용 커넥션을 여는 풀 밖의 데이터소스
+	 */
+	public UserCacheInvalidator(CacheManager cacheManager, DataSource dataSource, DataSource listenerDataSource) {
+		this.cacheManager = cacheManager;
+		this.listenerDataSource = listenerDataSource;
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	private static DataSource listenerDataSource(DataSourceProperties properties) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(properties.determineUrl(),
+			properties.determineUsername(), properties.determinePassword());
+		String driverClassName = properties.determineDriverClassName();
+		if (driverClassName != null) {
+			dataSource.setDriverClassName(driverClassName);
+		}
+		return dataSource;
+	}
+
+	@TransactionalEventListener
+	public void onUserWithdrawn(UserWithdrawnEvent event) {
+		evictAndNotify(event.getUserId());
+	}
+
+	@TransactionalEventListener
+	public void onUserAddressChanged(UserAddressChangedEvent event) {
+		evictAndNotify(event.getUserId());
+	}
+
+	public void evict(Long userId) {
+		for (String name : CacheNames.USER_SCOPED_CACHES) {
+			Cache cache = cacheManager.getCache(name);
+			if (cache != null) {
+				cache.evict(userId);
+			}
+		}
+	}
+
+	private void evictAndNotify(Long userId) {
+		evict(userId);
+		if (!enabled) {
+			return;
+		}
+		try {
+			jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class,
+				CHANNEL, instanceId + DELIMITER + userId);
+		} catch (RuntimeException e) {
+			log.warn("회원 캐시 무효화 알림 전송에 실패했습니다. 다른 인스턴스는 TTL 만료 후 반영됩니다. userId={}",
+				userId, e);
+		}
+	}
+
+	public void evictAll() {
+		for (String name : CacheNames.USER_SCOPED_CACHES) {
+			Cache cache = cacheManager.getCache(name);
+			if (cache != null) {
+				cache.clear();
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		listenerThread = new Thread(this::listen, "user-cache-invalidation-listener");
+		listenerThread.setDaemon(true);
+		listenerThread.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (listenerThread != null) {
+			listenerThread.interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void listen() {
+		boolean reconnecting = false;
+		while (running) {
+			try (Connection connection = listenerDataSource.getConnection()) {
+				if (!connection.isWrapperFor(PGConnection.class)) {
+					log.info("Postgres 가 아닌 데이터소스이므로 회원 캐시 무효화 수신을 사용하지 않습니다.");
+					running = false;
+					return;
+				}
+				PGConnection pgConnection = connection.unwrap(PGConnection.class);
+				connection.setAutoCommit(true);
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + CHANNEL);
+				}
+				if (reconnecting) {
+					evictAll();
+				}
+				while (running) {
+					PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+					if (notifications == null) {
+						continue;
+					}
+					for (PGNotification notification : notifications) {
+						handle(notification.getParameter());
+					}
+				}
+			} catch (SQLException | RuntimeException e) {
+				if (!running) {
+					return;
+				}
+				log.warn("회원 캐시 무효화 수신 커넥션이 끊어졌습니다. {}ms 후 재연결합니다.", reconnectDelayMs, e);
+				reconnecting = true;
+				try {
+					Thread.sleep(reconnectDelayMs);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void handle(String payload) {
+		int idx = payload.lastIndexOf(DELIMITER);
+		if (idx < 0 || instanceId.equals(payload.substring(0, idx))) {
+			return;
+		}
+		try {
+			evict(Long.parseLong(payload.substring(idx + 1)));
+		} catch (NumberFormatException e) {
+			log.warn("알 수 없는 회원 캐시 무효화 알림입니다. payload={}", payload);
+		}
+	}
+}
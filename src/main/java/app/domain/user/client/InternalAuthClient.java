@@ -8,18 +8,68 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import app.commonUtil.apiPayload.ApiResponse;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+/**
+ * Auth 서비스 호출
+ * 각 시도는 circuit breaker 를 거치고, 재시도는 그 바깥에서 감싼다.
+ * breaker 가 열려 있으면 CallNotPermittedException 으로 즉시 실패하며 재시도하지 않는다.
+ * 재시도를 포함한 호출 전체 시간과 결과는 user.auth.client.requests 로, 시도 하나하나는 http.client.requests 로 기록된다.
+ */
 @Service
-@RequiredArgsConstructor
 public class InternalAuthClient {
 
+	private static final String AUTH = "auth";
+
 	private final RestTemplate restTemplate;
+	private final CircuitBreaker circuitBreaker;
+	private final Retry retry;
+	private final MeterRegistry meterRegistry;
 
 	@Value("${auth.service.url:http://localhost:8083}")
 	private String authServiceUrl;
 
+	public InternalAuthClient(RestTemplate restTemplate, CircuitBreakerRegistry circuitBreakerRegistry,
+		RetryRegistry retryRegistry, MeterRegistry meterRegistry) {
+		this.restTemplate = restTemplate;
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(AUTH);
+		this.retry = retryRegistry.retry(AUTH);
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 탈퇴 후 Auth 서비스의 로그아웃을 호출한다.
+	 * 계약: POST {auth.service.url}/logout, 본문 없음, 응답 ApiResponse&lt;Void&gt;. (기존 Auth 서비스가 받는 형태 그대로)
+	 * 대상 회원을 지정하는 필드는 이 계약에 없으므로 회원 식별은 호출하는 outbox 행과 로그에만 남는다.
+	 */
 	public ApiResponse<Void> logout() {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "SUCCESS";
+		try {
+			return Retry.decorateSupplier(retry,
+				CircuitBreaker.decorateSupplier(circuitBreaker, this::requestLogout)).get();
+		} catch (CallNotPermittedException e) {
+			outcome = "REJECTED";
+			throw e;
+		} catch (RuntimeException e) {
+			outcome = "ERROR";
+			throw e;
+		} finally {
+			sample.stop(Timer.builder("user.auth.client.requests")
+				.description("Auth 서비스 호출 시간 (재시도 포함)")
+				.tag("operation", "logout")
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+		}
+	}
+
+	private ApiResponse<Void> requestLogout() {
 		String url = authServiceUrl + "/logout";
 
 		ResponseEntity<ApiResponse<Void>> response = restTemplate.exchange(
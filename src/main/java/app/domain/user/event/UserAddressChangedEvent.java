@@ -0,0 +1,14 @@
+package app.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배송지 추가/수정/삭제 트랜잭션 안에서 발행되며, 리스너는 커밋 이후(AFTER_COMMIT)에 해당 회원의 주소 캐시를 비운다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserAddressChangedEvent {
+
+	private final Long userId;
+}
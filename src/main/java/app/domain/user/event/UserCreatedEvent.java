@@ -0,0 +1,35 @@
+package app.domain.user.event;
+
+import java.time.LocalDateTime;
+
+import app.domain.user.model.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원가입 트랜잭션 안에서 발행되며, 리스너는 커밋 이후(AFTER_COMMIT)에 처리한다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserCreatedEvent {
+
+	private final Long userId;
+	private final String username;
+	private final String email;
+	private final String nickname;
+	private final String realName;
+	private final String phoneNumber;
+	private final LocalDateTime createdAt;
+
+	public static UserCreatedEvent from(User user) {
+		return new UserCreatedEvent(
+			user.getUserId(),
+			user.getUsername(),
+			user.getEmail(),
+			user.getNickname(),
+			user.getRealName(),
+			user.getPhoneNumber(),
+			user.getCreatedAt()
+		);
+	}
+}
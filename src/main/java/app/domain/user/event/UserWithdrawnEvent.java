@@ -0,0 +1,14 @@
+package app.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 탈퇴 트랜잭션 안에서 발행되며, 리스너는 커밋 이후(AFTER_COMMIT)에 처리한다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserWithdrawnEvent {
+
+	private final Long userId;
+}
@@ -1,16 +1,24 @@
 package app.domain.user.internal;
 
 
+import java.util.Map;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.security.TokenPrincipalParser;
+import app.domain.user.model.dto.request.BatchUserRequest;
+import app.domain.user.model.dto.response.BatchUserResponse;
 import app.domain.user.model.dto.response.GetUserInfoResponse;
 import app.domain.user.status.UserSuccessStatus;
+import app.global.security.AuthenticatedUser;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -21,19 +29,37 @@ public class InternalUserController {
 	private final TokenPrincipalParser tokenPrincipalParser;
 	@GetMapping("/exists")
 	public ApiResponse<Boolean> isUserExists(Authentication authentication) {
-		Boolean exists = internalUserService.isUserExists(Long.parseLong(tokenPrincipalParser.getUserId(authentication)));
+		Boolean exists = internalUserService.isUserExists(AuthenticatedUser.userId(authentication, tokenPrincipalParser));
 		return ApiResponse.onSuccess(UserSuccessStatus.USER_EXISTS,exists);
 	}
 
 	@GetMapping("/name")
 	public ApiResponse<String> getUserName(Authentication authentication) {
-		String name=internalUserService.getUserName(Long.parseLong(tokenPrincipalParser.getUserId(authentication)));
+		String name=internalUserService.getUserName(AuthenticatedUser.userId(authentication, tokenPrincipalParser));
 		return ApiResponse.onSuccess(UserSuccessStatus.USER_NAME_FETCHED,name);
 	}
 
 	@GetMapping("/info")
 	public ApiResponse<GetUserInfoResponse> getUserInfo(Authentication authentication){
-		GetUserInfoResponse getUserInfoResponse= internalUserService.getUserInfo(Long.parseLong(tokenPrincipalParser.getUserId(authentication)));
+		GetUserInfoResponse getUserInfoResponse= internalUserService.getUserInfo(AuthenticatedUser.userId(authentication, tokenPrincipalParser));
 		return ApiResponse.onSuccess(UserSuccessStatus.USER_INFO_FETCHED,getUserInfoResponse);
 	}
+
+	@PostMapping("/batch/exists")
+	public ApiResponse<Map<Long, Boolean>> areUsersExists(@Valid @RequestBody BatchUserRequest request) {
+		Map<Long, Boolean> exists = internalUserService.areUsersExists(request.getUserIds());
+		return ApiResponse.onSuccess(UserSuccessStatus.USERS_EXISTS_CHECKED, exists);
+	}
+
+	@PostMapping("/batch/name")
+	public ApiResponse<BatchUserResponse<String>> getUserNames(@Valid @RequestBody BatchUserRequest request) {
+		BatchUserResponse<String> names = internalUserService.getUserNames(request.getUserIds());
+		return ApiResponse.onSuccess(UserSuccessStatus.USERS_NAME_FETCHED, names);
+	}
+
+	@PostMapping("/batch/info")
+	public ApiResponse<BatchUserResponse<GetUserInfoResponse>> getUserInfos(@Valid @RequestBody BatchUserRequest request) {
+		BatchUserResponse<GetUserInfoResponse> infos = internalUserService.getUserInfos(request.getUserIds());
+		return ApiResponse.onSuccess(UserSuccessStatus.USERS_INFO_FETCHED, infos);
+	}
 }
@@ -1,36 +1,106 @@
 package app.domain.user.internal;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.user.model.UserNameView;
 import app.domain.user.model.UserRepository;
+import app.domain.user.model.dto.response.BatchUserResponse;
 import app.domain.user.model.dto.response.GetUserInfoResponse;
 import app.domain.user.model.entity.User;
+import app.domain.user.status.UserErrorStatus;
+import app.global.cache.CacheNames;
+import app.global.datasource.PrimaryReads;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class InternalUserService {
 
+	static final int MAX_BATCH_SIZE = 500;
+
 	private final UserRepository userRepository;
 
+	// 캐시를 채우는 단건 조회는 primary 에서 읽는다. replica 에서 읽으면 변경 직후 비운 캐시가 복제 지연된 값으로 TTL 동안 다시 채워진다.
+	// 가입 직후 false 가 캐시되어 신규 회원이 없는 것으로 보이지 않도록 true 만 캐시한다.
+	@Cacheable(cacheNames = CacheNames.USER_EXISTS, key = "#userId", unless = "!#result")
 	public Boolean isUserExists(Long userId) {
-		boolean exists = userRepository.existsById(userId);
+		boolean exists = PrimaryReads.call(() -> userRepository.existsByUserId(userId));
 		return exists;
 	}
 
+	@Cacheable(cacheNames = CacheNames.USER_NAME, key = "#userId")
 	public String getUserName(Long userId) {
-		User user = userRepository.findById(userId)
+		return PrimaryReads.call(() -> userRepository.findUsernameByUserId(userId))
 				.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-		return user.getUsername();
 	}
 
+	@Cacheable(cacheNames = CacheNames.USER_INFO, key = "#userId")
 	public GetUserInfoResponse getUserInfo(Long userId){
-		User user=userRepository.findById(userId)
+		User user=PrimaryReads.call(() -> userRepository.findById(userId))
 			.orElseThrow(()->new GeneralException(ErrorStatus.USER_NOT_FOUND));
 		return GetUserInfoResponse.from(user);
 	}
+
+	@Transactional(readOnly = true)
+	public Map<Long, Boolean> areUsersExists(List<Long> userIds) {
+		Set<Long> ids = distinct(userIds);
+		Set<Long> existing = new HashSet<>(userRepository.findExistingUserIds(ids));
+
+		Map<Long, Boolean> result = new LinkedHashMap<>();
+		for (Long id : ids) {
+			result.put(id, existing.contains(id));
+		}
+		return result;
+	}
+
+	@Transactional(readOnly = true)
+	public BatchUserResponse<String> getUserNames(List<Long> userIds) {
+		Set<Long> ids = distinct(userIds);
+		Map<Long, String> names = userRepository.findUsernamesByUserIds(ids).stream()
+			.collect(Collectors.toMap(UserNameView::getUserId, UserNameView::getUsername));
+		return toBatchResponse(ids, names);
+	}
+
+	@Transactional(readOnly = true)
+	public BatchUserResponse<GetUserInfoResponse> getUserInfos(List<Long> userIds) {
+		Set<Long> ids = distinct(userIds);
+		Map<Long, GetUserInfoResponse> infos = userRepository.findAllById(ids).stream()
+			.collect(Collectors.toMap(User::getUserId, GetUserInfoResponse::from));
+		return toBatchResponse(ids, infos);
+	}
+
+	private <T> BatchUserResponse<T> toBatchResponse(Set<Long> ids, Map<Long, T> results) {
+		Map<Long, T> found = new LinkedHashMap<>();
+		List<Long> missing = new ArrayList<>();
+		for (Long id : ids) {
+			T result = results.get(id);
+			if (result == null) {
+				missing.add(id);
+			} else {
+				found.put(id, result);
+			}
+		}
+		return new BatchUserResponse<>(found, missing);
+	}
+
+	private Set<Long> distinct(List<Long> userIds) {
+		Set<Long> ids = new LinkedHashSet<>(userIds);
+		if (ids.size() > MAX_BATCH_SIZE) {
+			throw new GeneralException(UserErrorStatus.BATCH_SIZE_EXCEEDED);
+		}
+		return ids;
+	}
 }
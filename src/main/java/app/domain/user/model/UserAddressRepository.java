@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,6 +17,12 @@ public interface UserAddressRepository extends JpaRepository<UserAddress, UUID>
 	Optional<UserAddress> findByUser_UserIdAndIsDefaultTrue(Long userId);
 	boolean existsByUserAndAddressAndAddressDetail(User user, String address, String addressDetail);
 	long countByUser(User user);
+	boolean existsByUser_UserId(Long userId);
+
+	@Modifying
+	@Query("UPDATE UserAddress ua SET ua.isDefault = false, ua.updatedAt = LOCAL DATETIME "
+		+ "WHERE ua.user.userId = :userId AND ua.isDefault = true AND ua.deletedAt IS NULL")
+	int clearDefaultByUserId(@Param("userId") Long userId);
 
 	@Query("SELECT ua FROM UserAddress ua WHERE ua.addressId = :addressId")
 	Optional<UserAddress> findByIdIgnoringSoftDelete(@Param("addressId") UUID addressId);
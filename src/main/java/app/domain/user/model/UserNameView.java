@@ -0,0 +1,11 @@
+package app.domain.user.model;
+
+/**
+ * 이름 일괄 조회용 프로젝션. user_id, username 두 컬럼만 읽는다.
+ */
+public interface UserNameView {
+
+	Long getUserId();
+
+	String getUsername();
+}
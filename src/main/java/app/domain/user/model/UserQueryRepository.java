@@ -1,11 +1,53 @@
 package app.domain.user.model;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import app.domain.user.model.entity.User;
+import app.domain.manager.dto.response.CustomerExportRow;
+import app.domain.manager.dto.response.GetCustomerDetailResponse;
+import app.domain.manager.dto.response.GetCustomerListResponse;
+import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.search.UserSearchDocument;
+import app.global.pagination.CursorDirection;
+import app.global.pagination.UserCursor;
 
+/**
+ * 목록 조회는 엔티티 대신 필요한 컬럼만 DTO 로 직접 조회한다. (영속성 컨텍스트/스냅샷을 만들지 않음)
+ */
 public interface UserQueryRepository {
 
-	Page<User> searchUser(String keyWord, Pageable pageable);
+	Page<GetCustomerListResponse> findCustomerList(UserRole role, Pageable pageable);
+
+	Slice<GetCustomerListResponse> findCustomerListSlice(UserRole role, Pageable pageable);
+
+	Page<GetCustomerListResponse> searchCustomerList(String keyWord, Pageable pageable);
+
+	Slice<GetCustomerListResponse> searchCustomerListSlice(String keyWord, Pageable pageable);
+
+	long countSearchUser(String keyWord);
+
+	List<GetCustomerListResponse> findCustomerListByCursor(UserRole role, UserCursor cursor, CursorDirection direction,
+		int limit);
+
+	List<GetCustomerListResponse> searchCustomerListByCursor(String keyWord, UserCursor cursor,
+		CursorDirection direction, int limit);
+
+	List<GetCustomerListResponse> findCustomerListByIds(Collection<Long> userIds);
+
+	/**
+	 * 회원과 탈퇴하지 않은 주소를 한 번의 LEFT JOIN 으로 읽어 상세 응답으로 묶는다. 없는 id 는 결과에서 빠진다.
+	 */
+	List<GetCustomerDetailResponse> findCustomerDetails(Collection<Long> userIds);
+
+	List<UserSearchDocument> findSearchDocumentsAfter(Long lastUserId, int limit);
+
+	/**
+	 * user_id 순으로 한 번에 fetchSize 행씩 가져오는 forward-only 스트림. 호출 측 트랜잭션 안에서 읽고 반드시 닫아야 한다.
+	 */
+	Stream<CustomerExportRow> streamCustomers(UserRole role, int fetchSize);
 }
@@ -1,18 +1,43 @@
 package app.domain.user.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import app.domain.customer.dto.response.GetCustomerAddressListResponse;
+import app.domain.manager.dto.response.CustomerExportRow;
+import app.domain.manager.dto.response.GetCustomerDetailResponse;
+import app.domain.manager.dto.response.GetCustomerListResponse;
 import app.domain.user.model.entity.QUser;
+import app.domain.user.model.entity.QUserAddress;
 import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.search.UserSearchDocument;
+import app.global.pagination.CursorDirection;
+import app.global.pagination.UserCursor;
 import lombok.RequiredArgsConstructor;
 
 @Repository
@@ -22,32 +47,237 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
 	private final JPAQueryFactory queryFactory;
 
 	@Override
-	public Page<User> searchUser(String keyWord, Pageable pageable) {
+	public Page<GetCustomerListResponse> findCustomerList(UserRole role, Pageable pageable) {
 		QUser user = QUser.user;
-		BooleanBuilder builder = new BooleanBuilder();
 
-		if (StringUtils.hasText(keyWord)) {
-			builder.and(
-				user.realName.containsIgnoreCase(keyWord)
-					.or(user.email.containsIgnoreCase(keyWord))
-					.or(user.nickname.containsIgnoreCase(keyWord))
-			);
-		}
+		List<GetCustomerListResponse> results = queryFactory
+			.select(customerListProjection())
+			.from(user)
+			.where(user.userRole.eq(role))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.orderBy(orderOf(pageable.getSort()))
+			.fetch();
 
-		List<User> results = queryFactory
-			.selectFrom(user)
-			.where(builder)
+		Long total = queryFactory
+			.select(user.count())
+			.from(user)
+			.where(user.userRole.eq(role))
+			.fetchOne();
+		return new PageImpl<>(results, pageable, total == null ? 0L : total);
+	}
+
+	@Override
+	public Slice<GetCustomerListResponse> findCustomerListSlice(UserRole role, Pageable pageable) {
+		QUser user = QUser.user;
+
+		List<GetCustomerListResponse> results = queryFactory
+			.select(customerListProjection())
+			.from(user)
+			.where(user.userRole.eq(role))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize() + 1L)
+			.orderBy(orderOf(pageable.getSort()))
+			.fetch();
+
+		return toSlice(results, pageable);
+	}
+
+	@Override
+	public Page<GetCustomerListResponse> searchCustomerList(String keyWord, Pageable pageable) {
+		QUser user = QUser.user;
+
+		List<GetCustomerListResponse> results = queryFactory
+			.select(customerListProjection())
+			.from(user)
+			.where(keyWordCondition(keyWord))
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.orderBy(user.createdAt.desc())
 			.fetch();
 
-		long total = queryFactory
+		return new PageImpl<>(results, pageable, countSearchUser(keyWord));
+	}
+
+	@Override
+	public Slice<GetCustomerListResponse> searchCustomerListSlice(String keyWord, Pageable pageable) {
+		QUser user = QUser.user;
+
+		List<GetCustomerListResponse> results = queryFactory
+			.select(customerListProjection())
+			.from(user)
+			.where(keyWordCondition(keyWord))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize() + 1L)
+			.orderBy(user.createdAt.desc())
+			.fetch();
+
+		return toSlice(results, pageable);
+	}
+
+	@Override
+	public long countSearchUser(String keyWord) {
+		QUser user = QUser.user;
+
+		Long total = queryFactory
 			.select(user.count())
 			.from(user)
-			.where(builder)
+			.where(keyWordCondition(keyWord))
 			.fetchOne();
+		return total == null ? 0L : total;
+	}
+
+	@Override
+	public List<GetCustomerListResponse> findCustomerListByCursor(UserRole role, UserCursor cursor,
+		CursorDirection direction, int limit) {
+		BooleanBuilder builder = new BooleanBuilder(QUser.user.userRole.eq(role));
+		return fetchByCursor(builder, cursor, direction, limit);
+	}
+
+	@Override
+	public List<GetCustomerListResponse> searchCustomerListByCursor(String keyWord, UserCursor cursor,
+		CursorDirection direction, int limit) {
+		return fetchByCursor(keyWordCondition(keyWord), cursor, direction, limit);
+	}
+
+	@Override
+	public List<GetCustomerListResponse> findCustomerListByIds(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+		QUser user = QUser.user;
+		return queryFactory
+			.select(customerListProjection())
+			.from(user)
+			.where(user.userId.in(userIds))
+			.fetch();
+	}
+
+	@Override
+	public List<GetCustomerDetailResponse> findCustomerDetails(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+		QUser user = QUser.user;
+		QUserAddress address = QUserAddress.userAddress;
+
+		List<Tuple> rows = queryFactory
+			.select(user.userId, user.email, user.username, user.realName, user.nickname, user.phoneNumber,
+				user.createdAt, user.updatedAt,
+				address.addressId, address.alias, address.address, address.addressDetail, address.isDefault)
+			.from(user)
+			.leftJoin(address).on(address.user.userId.eq(user.userId), address.deletedAt.isNull())
+			.where(user.userId.in(userIds))
+			.orderBy(user.userId.asc(), address.createdAt.asc())
+			.fetch();
+
+		Map<Long, GetCustomerDetailResponse> details = new LinkedHashMap<>();
+		for (Tuple row : rows) {
+			GetCustomerDetailResponse detail = details.computeIfAbsent(row.get(user.userId),
+				userId -> new GetCustomerDetailResponse(userId, row.get(user.email), row.get(user.username),
+					row.get(user.realName), row.get(user.nickname), row.get(user.phoneNumber),
+					row.get(user.createdAt), row.get(user.updatedAt), new ArrayList<>()));
+			if (row.get(address.addressId) != null) {
+				detail.getAddress().add(new GetCustomerAddressListResponse(row.get(address.alias),
+					row.get(address.address), row.get(address.addressDetail),
+					Boolean.TRUE.equals(row.get(address.isDefault))));
+			}
+		}
+		return new ArrayList<>(details.values());
+	}
+
+	@Override
+	public List<UserSearchDocument> findSearchDocumentsAfter(Long lastUserId, int limit) {
+		QUser user = QUser.user;
+		return queryFactory
+			.select(Projections.constructor(UserSearchDocument.class,
+				user.userId, user.realName, user.email, user.nickname, user.createdAt))
+			.from(user)
+			.where(user.userId.gt(lastUserId))
+			.orderBy(user.userId.asc())
+			.limit(limit)
+			.fetch();
+	}
 
-		return new PageImpl<>(results, pageable, total);
+	@Override
+	public Stream<CustomerExportRow> streamCustomers(UserRole role, int fetchSize) {
+		QUser user = QUser.user;
+		return queryFactory
+			.select(Projections.constructor(CustomerExportRow.class,
+				user.userId, user.username, user.email, user.nickname, user.realName, user.phoneNumber,
+				user.usersex, user.birthdate, user.userRole, user.createdAt))
+			.from(user)
+			.where(user.userRole.eq(role))
+			.orderBy(user.userId.asc())
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.stream();
+	}
+
+	/**
+	 * OFFSET 대신 (created_at, user_id) row 비교로 seek 한다.
+	 * PREV 방향은 오름차순으로 조회하므로 호출 측에서 뒤집어야 한다.
+	 */
+	private List<GetCustomerListResponse> fetchByCursor(BooleanBuilder builder, UserCursor cursor,
+		CursorDirection direction, int limit) {
+		QUser user = QUser.user;
+		boolean backward = direction == CursorDirection.PREV;
+
+		if (cursor != null) {
+			builder.and(Expressions.booleanTemplate(
+				backward ? "({0}, {1}) > ({2}, {3})" : "({0}, {1}) < ({2}, {3})",
+				user.createdAt, user.userId, cursor.getCreatedAt(), cursor.getUserId()));
+		}
+
+		return queryFactory
+			.select(customerListProjection())
+			.from(user)
+			.where(builder)
+			.orderBy(backward ? user.createdAt.asc() : user.createdAt.desc(),
+				backward ? user.userId.asc() : user.userId.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	private ConstructorExpression<GetCustomerListResponse> customerListProjection() {
+		QUser user = QUser.user;
+		return Projections.constructor(GetCustomerListResponse.class,
+			user.userId, user.email, user.username, user.createdAt);
+	}
+
+	/**
+	 * Pageable 의 정렬(createdAt, updatedAt 등 엔티티 속성명)을 그대로 적용하고, 없으면 가입일 역순으로 정렬한다.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private OrderSpecifier<?>[] orderOf(Sort sort) {
+		if (sort.isUnsorted()) {
+			return new OrderSpecifier<?>[] {QUser.user.createdAt.desc()};
+		}
+		PathBuilder<User> path = new PathBuilder<>(User.class, QUser.user.getMetadata());
+		List<OrderSpecifier<?>> orders = new ArrayList<>();
+		for (Sort.Order order : sort) {
+			orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+				path.getComparable(order.getProperty(), Comparable.class)));
+		}
+		return orders.toArray(new OrderSpecifier<?>[0]);
+	}
+
+	private <T> Slice<T> toSlice(List<T> results, Pageable pageable) {
+		boolean hasNext = results.size() > pageable.getPageSize();
+		List<T> content = hasNext ? results.subList(0, pageable.getPageSize()) : results;
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	private BooleanBuilder keyWordCondition(String keyWord) {
+		QUser user = QUser.user;
+		BooleanBuilder builder = new BooleanBuilder();
+
+		if (StringUtils.hasText(keyWord)) {
+			builder.and(
+				user.realName.containsIgnoreCase(keyWord)
+					.or(user.email.containsIgnoreCase(keyWord))
+					.or(user.nickname.containsIgnoreCase(keyWord))
+			);
+		}
+		return builder;
 	}
-}
\ No newline at end of file
+}
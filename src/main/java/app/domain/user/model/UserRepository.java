@@ -1,14 +1,19 @@
 package app.domain.user.model;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.search.UserSearchChangeView;
+import app.domain.user.uniqueness.UserUniqueValuesView;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
@@ -17,5 +22,50 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
 
 	Optional<User> findByUserId(Long userId);
 
-	Page<User> findAllByUserRole(UserRole role, Pageable pageable);
+	boolean existsByUserId(Long userId);
+
+	@Query("SELECT u.username FROM User u WHERE u.userId = :userId")
+	Optional<String> findUsernameByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT u.userId AS userId, u.username AS username FROM User u WHERE u.userId IN :userIds")
+	List<UserNameView> findUsernamesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+	long countByUserRole(UserRole role);
+
+	@Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+	List<Long> findExistingUserIds(@Param("userIds") Collection<Long> userIds);
+
+	boolean existsByUsername(String username);
+
+	boolean existsByEmail(String email);
+
+	boolean existsByNickname(String nickname);
+
+	boolean existsByPhoneNumber(String phoneNumber);
+
+	@Query(value = "SELECT count(*) FROM p_user", nativeQuery = true)
+	long countAllIncludingDeleted();
+
+	@Query(value = "SELECT u.user_id AS \"userId\", u.username AS \"username\", u.email AS \"email\", "
+		+ "u.nickname AS \"nickname\", u.phone_number AS \"phoneNumber\" "
+		+ "FROM p_user u WHERE u.user_id > :lastUserId ORDER BY u.user_id LIMIT :limit", nativeQuery = true)
+	List<UserUniqueValuesView> findUniqueValuesAfter(@Param("lastUserId") Long lastUserId, @Param("limit") int limit);
+
+	@Query(value = "SELECT u.user_id AS \"userId\", u.username AS \"username\", u.email AS \"email\", "
+		+ "u.nickname AS \"nickname\", u.phone_number AS \"phoneNumber\" "
+		+ "FROM p_user u WHERE u.updated_at > :since OR u.deleted_at > :since", nativeQuery = true)
+	List<UserUniqueValuesView> findUniqueValuesChangedSince(@Param("since") LocalDateTime since);
+
+	@Query(value = "SELECT u.user_id AS \"userId\", u.username AS \"username\", u.email AS \"email\", "
+		+ "u.nickname AS \"nickname\", u.phone_number AS \"phoneNumber\" "
+		+ "FROM p_user u WHERE u.username IN (:usernames) OR u.email IN (:emails) "
+		+ "OR u.nickname IN (:nicknames) OR u.phone_number IN (:phoneNumbers)", nativeQuery = true)
+	List<UserUniqueValuesView> findUniqueValuesMatching(@Param("usernames") Collection<String> usernames,
+		@Param("emails") Collection<String> emails, @Param("nicknames") Collection<String> nicknames,
+		@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+	@Query(value = "SELECT u.user_id AS \"userId\", u.real_name AS \"realName\", u.email AS \"email\", "
+		+ "u.nickname AS \"nickname\", u.created_at AS \"createdAt\", u.deleted_at AS \"deletedAt\" "
+		+ "FROM p_user u WHERE u.updated_at > :since OR u.deleted_at > :since", nativeQuery = true)
+	List<UserSearchChangeView> findSearchChangesSince(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import static app.domain.user.model.entity.QUser.*;
 
 import java.util.Optional;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import app.domain.user.model.entity.User;
@@ -16,12 +16,27 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
 	private final JPAQueryFactory queryFactory;
 
+	/**
+	 * null 인 인자는 조건에서 제외한다. 모든 인자가 null 이면 조회하지 않는다.
+	 */
 	@Override
 	public Optional<User> findFirstByUniqueFields(String username, String email, String nickname, String phoneNumber) {
-		BooleanExpression predicate = user.username.eq(username)
-			.or(user.email.eq(email))
-			.or(user.nickname.eq(nickname))
-			.or(user.phoneNumber.eq(phoneNumber));
+		BooleanBuilder predicate = new BooleanBuilder();
+		if (username != null) {
+			predicate.or(user.username.eq(username));
+		}
+		if (email != null) {
+			predicate.or(user.email.eq(email));
+		}
+		if (nickname != null) {
+			predicate.or(user.nickname.eq(nickname));
+		}
+		if (phoneNumber != null) {
+			predicate.or(user.phoneNumber.eq(phoneNumber));
+		}
+		if (!predicate.hasValue()) {
+			return Optional.empty();
+		}
 
 		User foundUser = queryFactory
 			.selectFrom(user)
@@ -30,4 +45,4 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
 		return Optional.ofNullable(foundUser);
 	}
-}
\ No newline at end of file
+}
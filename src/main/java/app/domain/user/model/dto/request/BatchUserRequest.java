@@ -0,0 +1,23 @@
+package app.domain.user.model.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BatchUserRequest {
+
+	@NotEmpty
+	private List<@NotNull Long> userIds;
+
+	public BatchUserRequest() {
+	}
+
+	public BatchUserRequest(List<Long> userIds) {
+		this.userIds = userIds;
+	}
+}
@@ -18,6 +18,7 @@ import lombok.Setter;
 public class CreateUserRequest {
 
 	@NotBlank
+	@Size(max = 50)
 	private String username;
 
 	@NotBlank
@@ -26,6 +27,7 @@ public class CreateUserRequest {
 
 	@NotBlank
 	@Email
+	@Size(max = 100)
 	private String email;
 
 	@NotBlank
@@ -0,0 +1,27 @@
+package app.domain.user.model.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 여러 userId 일괄 조회 결과
+ * 존재하지 않거나 탈퇴한 userId 는 전체 요청을 실패시키지 않고 missing 으로 따로 돌려준다.
+ */
+@Getter
+@Builder
+public class BatchUserResponse<T> {
+
+	private Map<Long, T> found;
+	private List<Long> missing;
+
+	public BatchUserResponse() {
+	}
+
+	public BatchUserResponse(Map<Long, T> found, List<Long> missing) {
+		this.found = found;
+		this.missing = missing;
+	}
+}
@@ -0,0 +1,28 @@
+package app.domain.user.model.dto.response;
+
+import app.domain.user.uniqueness.UniqueField;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CheckAvailabilityResponse {
+
+	private UniqueField field;
+	private boolean available;
+
+	public CheckAvailabilityResponse() {
+	}
+
+	public CheckAvailabilityResponse(UniqueField field, boolean available) {
+		this.field = field;
+		this.available = available;
+	}
+
+	public static CheckAvailabilityResponse of(UniqueField field, boolean available) {
+		return CheckAvailabilityResponse.builder()
+			.field(field)
+			.available(available)
+			.build();
+	}
+}
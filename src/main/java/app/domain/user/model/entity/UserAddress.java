@@ -6,10 +6,10 @@ import app.domain.customer.dto.request.UpdateCustomerAddressRequest;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import app.commonUtil.entity.BaseEntity;
+import app.global.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -33,7 +33,7 @@ import lombok.Setter;
 public class UserAddress extends BaseEntity {
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID addressId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
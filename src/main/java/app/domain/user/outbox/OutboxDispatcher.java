@@ -0,0 +1,106 @@
+package app.domain.user.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.user.client.InternalAuthClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 전달
+ * - 전달 시점이 된 PENDING 행을 잠그고(SKIP LOCKED) 다음 시도 시각을 임대 만료 시각(user.outbox.lease)으로 미룬 뒤 바로 커밋한다.
+ * - 외부 서비스 호출은 트랜잭션 밖에서 하므로 호출이 느려도 행 잠금과 DB 커넥션을 잡고 있지 않는다.
+ * - 결과는 행마다 짧은 트랜잭션으로 기록한다. 실패하면 지수 백오프로 다음 시도 시각을 미루고, 최대 횟수를 넘기면 FAILED 로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final InternalAuthClient internalAuthClient;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${user.outbox.batch-size:50}")
+	private int batchSize;
+
+	@Value("${user.outbox.max-attempts:10}")
+	private int maxAttempts;
+
+	@Value("${user.outbox.initial-backoff:1s}")
+	private Duration initialBackoff;
+
+	@Value("${user.outbox.max-backoff:10m}")
+	private Duration maxBackoff;
+
+	@Value("${user.outbox.lease:5m}")
+	private Duration lease;
+
+	@Value("${user.outbox.retention:7d}")
+	private Duration retention;
+
+	@Scheduled(fixedDelayString = "${user.outbox.poll-interval-ms:1000}")
+	public void dispatch() {
+		List<OutboxEvent> claimed;
+		do {
+			claimed = transactionTemplate.execute(status -> claimBatch());
+			if (claimed == null) {
+				return;
+			}
+			claimed.forEach(this::dispatchEvent);
+		} while (claimed.size() == batchSize);
+	}
+
+	@Scheduled(cron = "${user.outbox.purge-cron:0 0 4 * * *}")
+	public void purgeSent() {
+		Integer deleted = transactionTemplate.execute(status ->
+			outboxEventRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+		log.info("전송 완료된 outbox {}건을 정리했습니다.", deleted);
+	}
+
+	private List<OutboxEvent> claimBatch() {
+		LocalDateTime now = LocalDateTime.now();
+		List<OutboxEvent> events = outboxEventRepository.lockDueEvents(now, batchSize);
+		events.forEach(event -> event.claim(now.plus(lease)));
+		return events;
+	}
+
+	private void dispatchEvent(OutboxEvent event) {
+		try {
+			deliver(event);
+			event.markSent();
+		} catch (RuntimeException e) {
+			LocalDateTime retryAt = event.getAttempts() + 1 >= maxAttempts
+				? null
+				: LocalDateTime.now().plus(backoff(event.getAttempts()));
+			event.markFailed(e.getMessage(), retryAt);
+			if (retryAt == null) {
+				log.error("outbox 전달이 {}회 실패해 중단합니다. outboxId={}, type={}, userId={}",
+					maxAttempts, event.getOutboxId(), event.getEventType(), event.getUserId(), e);
+			} else {
+				log.warn("outbox 전달에 실패했습니다. {} 에 재시도합니다. outboxId={}, type={}, userId={}",
+					retryAt, event.getOutboxId(), event.getEventType(), event.getUserId(), e);
+			}
+		}
+		// 임대한 행은 이 인스턴스만 갱신하므로 분리된 엔티티를 그대로 병합한다.
+		transactionTemplate.executeWithoutResult(status -> outboxEventRepository.save(event));
+	}
+
+	private void deliver(OutboxEvent event) {
+		switch (event.getEventType()) {
+			case AUTH_LOGOUT -> internalAuthClient.logout();
+		}
+	}
+
+	private Duration backoff(int attempts) {
+		Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+		return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+	}
+}
@@ -0,0 +1,100 @@
+package app.domain.user.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 서비스 호출을 업무 트랜잭션과 같은 트랜잭션으로 기록해 두는 outbox 행
+ * OutboxDispatcher 가 커밋된 행을 읽어 재시도/백오프와 함께 전달한다.
+ */
+@Entity
+@Table(name = "p_user_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long outboxId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 30)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private OutboxStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	private LocalDateTime sentAt;
+
+	public static OutboxEvent authLogout(Long userId) {
+		LocalDateTime now = LocalDateTime.now();
+		return OutboxEvent.builder()
+			.eventType(OutboxEventType.AUTH_LOGOUT)
+			.userId(userId)
+			.status(OutboxStatus.PENDING)
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build();
+	}
+
+	/**
+	 * dispatcher 가 전달하는 동안 다른 인스턴스가 가져가지 않도록 다음 시도 시각을 임대 만료 시각으로 미룬다.
+	 * 전달 도중 인스턴스가 죽으면 임대가 끝난 뒤 다시 전달된다.
+	 */
+	public void claim(LocalDateTime leaseUntil) {
+		this.nextAttemptAt = leaseUntil;
+	}
+
+	public void markSent() {
+		this.status = OutboxStatus.SENT;
+		this.sentAt = LocalDateTime.now();
+		this.lastError = null;
+	}
+
+	/**
+	 * @param retryAt null 이면 재시도 한도를 넘긴 것으로 보고 FAILED 로 전환한다.
+	 */
+	public void markFailed(String error, LocalDateTime retryAt) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+		if (retryAt == null) {
+			this.status = OutboxStatus.FAILED;
+		} else {
+			this.nextAttemptAt = retryAt;
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package app.domain.user.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 여러 인스턴스의 dispatcher 가 같은 행을 중복 전송하지 않도록 행 잠금을 걸고, 잠긴 행은 건너뛴다.
+	 */
+	@Query(value = "SELECT * FROM p_user_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+		+ "ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<OutboxEvent> lockDueEvents(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Modifying
+	@Query("DELETE FROM OutboxEvent o WHERE o.status = app.domain.user.outbox.OutboxStatus.SENT AND o.sentAt < :before")
+	int deleteSentBefore(@Param("before") LocalDateTime before);
+}
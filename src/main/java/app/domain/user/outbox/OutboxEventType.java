@@ -0,0 +1,5 @@
+package app.domain.user.outbox;
+
+public enum OutboxEventType {
+	AUTH_LOGOUT
+}
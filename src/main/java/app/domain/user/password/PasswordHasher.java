@@ -0,0 +1,82 @@
+package app.domain.user.password;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.user.status.UserErrorStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해싱을 전용 스레드 풀에서 수행한다.
+ * 호출 측은 트랜잭션을 열기 전에 호출해야 하며, 풀과 큐가 모두 찼으면 SIGNUP_BUSY 로 즉시 거절된다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolTaskExecutor executor;
+	private final Timer hashTimer;
+
+	@Value("${user.password.hash-timeout:5s}")
+	private Duration hashTimeout;
+
+	public PasswordHasher(PasswordEncoder passwordEncoder,
+		@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+		MeterRegistry meterRegistry) {
+		this.passwordEncoder = passwordEncoder;
+		this.executor = executor;
+		this.hashTimer = Timer.builder("user.password.hash")
+			.description("비밀번호 해싱 소요 시간")
+			.register(meterRegistry);
+		Gauge.builder("user.password.hash.queue.depth", executor,
+				e -> e.getThreadPoolExecutor().getQueue().size())
+			.description("해싱 대기 중인 작업 수")
+			.register(meterRegistry);
+		Gauge.builder("user.password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+			.description("해싱 중인 스레드 수")
+			.register(meterRegistry);
+	}
+
+	public String hash(String rawPassword) {
+		Future<String> future;
+		try {
+			future = executor.submit(() -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+		} catch (RejectedExecutionException e) {
+			log.warn("비밀번호 해싱 대기열이 가득 차 요청을 거절했습니다.");
+			throw new GeneralException(UserErrorStatus.SIGNUP_BUSY);
+		}
+
+		try {
+			return future.get(hashTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			log.warn("비밀번호 해싱이 {}ms 안에 끝나지 않았습니다.", hashTimeout.toMillis());
+			throw new GeneralException(UserErrorStatus.SIGNUP_BUSY);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package app.domain.user.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다른 인스턴스에서 발생한 가입/탈퇴를 색인에 반영하기 위한 변경분 조회용 프로젝션
+ * 탈퇴(soft delete)된 행도 포함해야 하므로 @Where 가 적용되지 않는 native 쿼리로 조회한다.
+ */
+public interface UserSearchChangeView {
+
+	Long getUserId();
+
+	String getRealName();
+
+	String getEmail();
+
+	String getNickname();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getDeletedAt();
+}
@@ -0,0 +1,28 @@
+package app.domain.user.search;
+
+import java.time.LocalDateTime;
+
+import app.domain.user.event.UserCreatedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSearchDocument {
+
+	private final Long userId;
+	private final String realName;
+	private final String email;
+	private final String nickname;
+	private final LocalDateTime createdAt;
+
+	public static UserSearchDocument from(UserCreatedEvent event) {
+		return new UserSearchDocument(event.getUserId(), event.getRealName(), event.getEmail(), event.getNickname(),
+			event.getCreatedAt());
+	}
+
+	public static UserSearchDocument from(UserSearchChangeView view) {
+		return new UserSearchDocument(view.getUserId(), view.getRealName(), view.getEmail(), view.getNickname(),
+			view.getCreatedAt());
+	}
+}
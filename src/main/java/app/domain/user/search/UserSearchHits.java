@@ -0,0 +1,14 @@
+package app.domain.user.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSearchHits {
+
+	private final List<Long> userIds;
+	private final long totalHits;
+}
@@ -0,0 +1,308 @@
+package app.domain.user.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import app.global.pagination.CursorDirection;
+import app.global.pagination.UserCursor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 고객 검색용 로컬 디스크 Lucene 색인
+ *
+ * realName / email / nickname 에 대해 DB 의 lower(x) like '%kw%' 와 같은 부분 일치를 보장하기 위해
+ * 3-gram 필드(위치 포함, 3자 이상 키워드는 연속 phrase 로 매칭)와 1~2-gram 필드(짧은 키워드)를 함께 색인한다.
+ * 정렬은 (created_at, user_id) 내림차순으로 DB keyset 커서와 동일하다.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+	private static final String ID = "id";
+	private static final String CREATED_AT_SORT = "created_at_sort";
+	private static final String USER_ID_SORT = "user_id_sort";
+	private static final String TRIGRAM_SUFFIX = "_ng3";
+	private static final String SHORT_GRAM_SUFFIX = "_ng12";
+	private static final List<String> SEARCH_FIELDS = List.of("realName", "email", "nickname");
+
+	private static final Sort NEWEST_FIRST = new Sort(
+		new SortField(CREATED_AT_SORT, SortField.Type.LONG, true),
+		new SortField(USER_ID_SORT, SortField.Type.LONG, true));
+	private static final Sort OLDEST_FIRST = new Sort(
+		new SortField(CREATED_AT_SORT, SortField.Type.LONG, false),
+		new SortField(USER_ID_SORT, SortField.Type.LONG, false));
+
+	/**
+	 * 비어 있으면 인스턴스마다 새 임시 디렉터리를 만들어 쓰고 종료 시 지운다. (색인은 기동 시 DB 에서 다시 만든다)
+	 * 지정하면 그 디렉터리를 이 인스턴스가 독점하며, 다른 프로세스가 쓰고 있으면 기동에 실패한다.
+	 */
+	@Value("${user.search.index-dir:}")
+	private String indexDir;
+
+	private Path indexPath;
+	private boolean temporary;
+	private FSDirectory directory;
+	private IndexWriter writer;
+	private SearcherManager searcherManager;
+	private volatile boolean ready = false;
+
+	@PostConstruct
+	void open() throws IOException {
+		temporary = !StringUtils.hasText(indexDir);
+		indexPath = temporary ? Files.createTempDirectory("user-search-index-") : Path.of(indexDir);
+		directory = FSDirectory.open(indexPath);
+		IndexWriterConfig config = new IndexWriterConfig(analyzer())
+			.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+		try {
+			// write.lock 을 먼저 잡으므로 CREATE 가 다른 인스턴스의 색인을 지우는 일은 없다.
+			writer = new IndexWriter(directory, config);
+		} catch (LockObtainFailedException e) {
+			directory.close();
+			throw new IllegalStateException("검색 색인 디렉터리를 다른 프로세스가 사용 중입니다. "
+				+ "인스턴스마다 다른 user.search.index-dir 을 지정하거나 비워 두세요. dir=" + indexPath, e);
+		}
+		searcherManager = new SearcherManager(writer, null);
+		log.info("검색 색인 디렉터리: {}", indexPath);
+	}
+
+	@PreDestroy
+	void close() throws IOException {
+		ready = false;
+		searcherManager.close();
+		writer.close();
+		directory.close();
+		if (temporary) {
+			FileSystemUtils.deleteRecursively(indexPath);
+		}
+	}
+
+	/**
+	 * 기동 시 전체 재색인이 끝나기 전에는 false 이며, 이 동안 검색은 DB 로 fallback 한다.
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	public void beginRebuild() throws IOException {
+		ready = false;
+		writer.deleteAll();
+	}
+
+	public void finishRebuild() throws IOException {
+		commit();
+		ready = true;
+	}
+
+	public void upsertAll(List<UserSearchDocument> documents) throws IOException {
+		for (UserSearchDocument document : documents) {
+			writer.updateDocument(new Term(ID, String.valueOf(document.getUserId())), toDocument(document));
+		}
+		searcherManager.maybeRefresh();
+	}
+
+	public void upsert(UserSearchDocument document) throws IOException {
+		upsertAll(List.of(document));
+	}
+
+	public void delete(Long userId) throws IOException {
+		writer.deleteDocuments(new Term(ID, String.valueOf(userId)));
+		searcherManager.maybeRefresh();
+	}
+
+	public void commit() throws IOException {
+		writer.commit();
+		searcherManager.maybeRefresh();
+	}
+
+	public UserSearchHits search(String keyWord, long offset, int limit) {
+		Query query = buildQuery(keyWord);
+		return withSearcher(searcher -> {
+			int total = searcher.count(query);
+			if (offset >= total) {
+				return new UserSearchHits(List.of(), total);
+			}
+			TopFieldDocs top = searcher.search(query, (int)Math.min(offset + limit, total), NEWEST_FIRST);
+			List<Long> ids = new ArrayList<>(limit);
+			for (int i = (int)offset; i < top.scoreDocs.length; i++) {
+				ids.add(userIdOf(top.scoreDocs[i]));
+			}
+			return new UserSearchHits(ids, total);
+		});
+	}
+
+	/**
+	 * @return PREV 방향이면 오래된 순(역순)으로 정렬된 user_id 목록
+	 */
+	public List<Long> searchByCursor(String keyWord, UserCursor cursor, CursorDirection direction, int limit) {
+		Query query = buildQuery(keyWord);
+		Sort sort = direction == CursorDirection.PREV ? OLDEST_FIRST : NEWEST_FIRST;
+		return withSearcher(searcher -> {
+			int maxDoc = searcher.getIndexReader().maxDoc();
+			if (maxDoc == 0) {
+				return List.of();
+			}
+			TopDocs top;
+			if (cursor == null) {
+				top = searcher.search(query, limit, sort);
+			} else {
+				// 정렬 키가 (created_at, user_id) 로 유일하므로 doc 값은 커서 문서 자체를 제외하는 용도로만 쓰인다.
+				FieldDoc after = new FieldDoc(maxDoc - 1, Float.NaN,
+					new Object[] {toSortKey(cursor.getCreatedAt()), cursor.getUserId()});
+				top = searcher.searchAfter(after, query, limit, sort);
+			}
+			List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+			for (ScoreDoc scoreDoc : top.scoreDocs) {
+				ids.add(userIdOf(scoreDoc));
+			}
+			return ids;
+		});
+	}
+
+	private Query buildQuery(String keyWord) {
+		if (!StringUtils.hasText(keyWord)) {
+			return new MatchAllDocsQuery();
+		}
+		String normalized = keyWord.toLowerCase(Locale.ROOT);
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		for (String field : SEARCH_FIELDS) {
+			builder.add(substringQuery(field, normalized), BooleanClause.Occur.SHOULD);
+		}
+		return builder.build();
+	}
+
+	private Query substringQuery(String field, String keyWord) {
+		if (keyWord.length() < 3) {
+			return new TermQuery(new Term(field + SHORT_GRAM_SUFFIX, keyWord));
+		}
+		PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+		for (int i = 0; i + 3 <= keyWord.length(); i++) {
+			phrase.add(new Term(field + TRIGRAM_SUFFIX, keyWord.substring(i, i + 3)), i);
+		}
+		return phrase.build();
+	}
+
+	private Document toDocument(UserSearchDocument source) {
+		Document document = new Document();
+		document.add(new StringField(ID, String.valueOf(source.getUserId()), Field.Store.NO));
+		document.add(new NumericDocValuesField(USER_ID_SORT, source.getUserId()));
+		document.add(new NumericDocValuesField(CREATED_AT_SORT, toSortKey(source.getCreatedAt())));
+		addSearchField(document, "realName", source.getRealName());
+		addSearchField(document, "email", source.getEmail());
+		addSearchField(document, "nickname", source.getNickname());
+		return document;
+	}
+
+	private void addSearchField(Document document, String field, String value) {
+		if (value == null) {
+			return;
+		}
+		document.add(new TextField(field + TRIGRAM_SUFFIX, value, Field.Store.NO));
+		document.add(new TextField(field + SHORT_GRAM_SUFFIX, value, Field.Store.NO));
+	}
+
+	private long userIdOf(ScoreDoc scoreDoc) {
+		return (Long)((FieldDoc)scoreDoc).fields[1];
+	}
+
+	static long toSortKey(LocalDateTime createdAt) {
+		if (createdAt == null) {
+			return Long.MIN_VALUE;
+		}
+		return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+	}
+
+	private <T> T withSearcher(SearchFunction<T> function) {
+		IndexSearcher searcher = null;
+		try {
+			searcher = searcherManager.acquire();
+			return function.apply(searcher);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			if (searcher != null) {
+				try {
+					searcherManager.release(searcher);
+				} catch (IOException e) {
+					log.warn("검색 색인 searcher 반환에 실패했습니다.", e);
+				}
+			}
+		}
+	}
+
+	private static Analyzer analyzer() {
+		Map<String, Analyzer> perField = new HashMap<>();
+		for (String field : SEARCH_FIELDS) {
+			perField.put(field + TRIGRAM_SUFFIX, new NGramAnalyzer(3, 3));
+			perField.put(field + SHORT_GRAM_SUFFIX, new NGramAnalyzer(1, 2));
+		}
+		return new PerFieldAnalyzerWrapper(new KeywordAnalyzer(), perField);
+	}
+
+	@FunctionalInterface
+	private interface SearchFunction<T> {
+		T apply(IndexSearcher searcher) throws IOException;
+	}
+
+	private static class NGramAnalyzer extends Analyzer {
+
+		private final int minGram;
+		private final int maxGram;
+
+		NGramAnalyzer(int minGram, int maxGram) {
+			this.minGram = minGram;
+			this.maxGram = maxGram;
+		}
+
+		@Override
+		protected TokenStreamComponents createComponents(String fieldName) {
+			Tokenizer tokenizer = new NGramTokenizer(minGram, maxGram);
+			return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+		}
+	}
+}
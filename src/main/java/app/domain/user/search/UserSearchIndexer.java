@@ -0,0 +1,113 @@
+package app.domain.user.search;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.domain.user.event.UserCreatedEvent;
+import app.domain.user.event.UserWithdrawnEvent;
+import app.domain.user.model.UserQueryRepository;
+import app.domain.user.model.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 색인 동기화
+ * - 기동 시 p_user 전체를 user_id 순으로 나눠 읽어 재색인한다.
+ * - 이 인스턴스의 가입/탈퇴는 커밋 직후 즉시 반영한다.
+ * - 다른 인스턴스의 가입/탈퇴는 updated_at / deleted_at 변경분을 주기적으로 읽어 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexer {
+
+	private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+	private final UserSearchIndex userSearchIndex;
+	private final UserQueryRepository userQueryRepository;
+	private final UserRepository userRepository;
+
+	@Value("${user.search.rebuild-batch-size:1000}")
+	private int rebuildBatchSize;
+
+	private volatile LocalDateTime lastSyncStartedAt;
+
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		LocalDateTime startedAt = LocalDateTime.now();
+		long indexed = 0;
+		try {
+			userSearchIndex.beginRebuild();
+			Long lastUserId = 0L;
+			List<UserSearchDocument> batch;
+			do {
+				batch = userQueryRepository.findSearchDocumentsAfter(lastUserId, rebuildBatchSize);
+				if (batch.isEmpty()) {
+					break;
+				}
+				userSearchIndex.upsertAll(batch);
+				indexed += batch.size();
+				lastUserId = batch.get(batch.size() - 1).getUserId();
+			} while (batch.size() == rebuildBatchSize);
+
+			lastSyncStartedAt = startedAt;
+			userSearchIndex.finishRebuild();
+			log.info("사용자 검색 색인 재구축 완료: {}건, {}ms", indexed,
+				Duration.between(startedAt, LocalDateTime.now()).toMillis());
+		} catch (IOException | RuntimeException e) {
+			log.error("사용자 검색 색인 재구축에 실패했습니다. 검색은 DB 로 처리됩니다.", e);
+		}
+	}
+
+	@TransactionalEventListener
+	public void onUserCreated(UserCreatedEvent event) {
+		try {
+			userSearchIndex.upsert(UserSearchDocument.from(event));
+		} catch (IOException e) {
+			log.warn("가입 사용자 색인에 실패했습니다. 다음 동기화에서 반영됩니다. userId={}", event.getUserId(), e);
+		}
+	}
+
+	@TransactionalEventListener
+	public void onUserWithdrawn(UserWithdrawnEvent event) {
+		try {
+			userSearchIndex.delete(event.getUserId());
+		} catch (IOException e) {
+			log.warn("탈퇴 사용자 색인 삭제에 실패했습니다. 다음 동기화에서 반영됩니다. userId={}", event.getUserId(), e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${user.search.sync-interval-ms:30000}")
+	public void syncChanges() {
+		if (!userSearchIndex.isReady() || lastSyncStartedAt == null) {
+			return;
+		}
+		LocalDateTime startedAt = LocalDateTime.now();
+		try {
+			List<UserSearchChangeView> changes = userRepository.findSearchChangesSince(
+				lastSyncStartedAt.minus(SYNC_OVERLAP));
+			for (UserSearchChangeView change : changes) {
+				if (change.getDeletedAt() != null) {
+					userSearchIndex.delete(change.getUserId());
+				} else {
+					userSearchIndex.upsert(UserSearchDocument.from(change));
+				}
+			}
+			userSearchIndex.commit();
+			lastSyncStartedAt = startedAt;
+		} catch (IOException | RuntimeException e) {
+			log.warn("사용자 검색 색인 변경분 동기화에 실패했습니다.", e);
+		}
+	}
+}
@@ -18,6 +18,9 @@ public enum UserErrorStatus implements BaseCode {
 	AUTHENTICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "USER005", "인증 정보를 찾을 수 없습니다."),
 	LOGOUT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "USER006","로그아웃에 실패하여 회원탈퇴를 실패했습니다."),
 	CREATE_USER_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "USER007", "사용자 생성에 실패했습니다."),
+	BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "USER008", "한 번에 조회할 수 있는 회원 수를 초과했습니다."),
+	SIGNUP_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "USER009", "가입 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	AVAILABILITY_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "USER010", "조회 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 	ADDRESS_NOT_FOUND(HttpStatus.NOT_FOUND, "ADDRESS001", "해당하는 주소를 찾을 수 없습니다."),
 	ADDRESS_ACCESS_DENIED(HttpStatus.FORBIDDEN, "ADDRESS002", "사용자 권한이 없는 주소입니다."),
 	CANNOT_DELETE_DEFAULT_ADDRESS(HttpStatus.CONFLICT, "ADDRESS003", "기본 주소는 삭제할 수 없습니다. 기본 주소를 변경해주세요."),
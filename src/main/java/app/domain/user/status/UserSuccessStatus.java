@@ -18,7 +18,11 @@ public enum UserSuccessStatus implements BaseCode {
 	USER_PROFILE_FETCHED(HttpStatus.OK, "USER205", "회원 정보 조회에 성공했습니다."),
 	USER_EXISTS(HttpStatus.OK,"USER206","해당 회원이 존재합니다"),
 	USER_NAME_FETCHED(HttpStatus.OK,"USER207","해당 회원의 이름 조회에 성공했습니다."),
-	USER_INFO_FETCHED(HttpStatus.OK,"USER208","해당 회원의 정보 조회에 성공했습니다.");
+	USER_INFO_FETCHED(HttpStatus.OK,"USER208","해당 회원의 정보 조회에 성공했습니다."),
+	USERS_EXISTS_CHECKED(HttpStatus.OK, "USER209", "회원 존재 여부 일괄 조회에 성공했습니다."),
+	USERS_NAME_FETCHED(HttpStatus.OK, "USER210", "회원 이름 일괄 조회에 성공했습니다."),
+	USERS_INFO_FETCHED(HttpStatus.OK, "USER211", "회원 정보 일괄 조회에 성공했습니다."),
+	AVAILABILITY_CHECKED(HttpStatus.OK, "USER212", "사용 가능 여부 조회에 성공했습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
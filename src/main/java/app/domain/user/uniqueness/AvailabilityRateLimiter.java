@@ -0,0 +1,50 @@
+package app.domain.user.uniqueness;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.user.status.UserErrorStatus;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+
+/**
+ * 사용 가능 여부 조회(/user/availability) 의 클라이언트 IP 별 호출 한도
+ * 인증 없이 열려 있는 API 라 한도가 없으면 가입된 이메일, 아이디를 대량으로 확인할 수 있다.
+ * IP 마다 refresh-period 동안 limit-for-period 회까지 허용하고, 넘으면 기다리지 않고 바로 거절한다.
+ * IP 별 limiter 는 max-clients 개까지만 메모리에 두고 한동안 요청이 없으면 버린다.
+ */
+@Component
+public class AvailabilityRateLimiter {
+
+	private final RateLimiterConfig config;
+	private final Cache<String, RateLimiter> limiters;
+
+	public AvailabilityRateLimiter(
+		@Value("${user.availability.rate-limit.limit-for-period:20}") int limitForPeriod,
+		@Value("${user.availability.rate-limit.refresh-period:1m}") Duration refreshPeriod,
+		@Value("${user.availability.rate-limit.max-clients:100000}") long maxClients
+	) {
+		this.config = RateLimiterConfig.custom()
+			.limitForPeriod(limitForPeriod)
+			.limitRefreshPeriod(refreshPeriod)
+			.timeoutDuration(Duration.ZERO)
+			.build();
+		this.limiters = Caffeine.newBuilder()
+			.maximumSize(maxClients)
+			.expireAfterAccess(refreshPeriod.multipliedBy(2))
+			.build();
+	}
+
+	public void acquire(String clientAddress) {
+		RateLimiter limiter = limiters.get(clientAddress, key -> RateLimiter.of("user-availability", config));
+		if (!limiter.acquirePermission()) {
+			throw new GeneralException(UserErrorStatus.AVAILABILITY_RATE_LIMITED);
+		}
+	}
+}
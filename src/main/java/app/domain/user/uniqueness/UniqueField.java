@@ -0,0 +1,19 @@
+package app.domain.user.uniqueness;
+
+import app.domain.user.status.UserErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * p_user 의 unique 컬럼. 가입 중복 검증과 사용 가능 여부 조회에 함께 쓰인다.
+ */
+@Getter
+@AllArgsConstructor
+public enum UniqueField {
+	USERNAME(UserErrorStatus.USER_ALREADY_EXISTS),
+	EMAIL(UserErrorStatus.EMAIL_ALREADY_EXISTS),
+	NICKNAME(UserErrorStatus.NICKNAME_ALREADY_EXISTS),
+	PHONE_NUMBER(UserErrorStatus.PHONE_NUMBER_ALREADY_EXISTS);
+
+	private final UserErrorStatus duplicateStatus;
+}
@@ -0,0 +1,93 @@
+package app.domain.user.uniqueness;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+/**
+ * unique 컬럼별 인메모리 블룸 필터
+ *
+ * mightContain 이 false 면 DB 에 해당 값이 확실히 없으므로 조회를 생략할 수 있다.
+ * true 는 "있을 수도 있음" 이므로 반드시 DB 로 확인한다.
+ * 재구축이 끝나기 전에는 항상 true 를 돌려 모든 판단을 DB 에 맡긴다.
+ */
+@Component
+public class UniqueFieldFilter {
+
+	@Value("${user.uniqueness.filter.fpp:0.01}")
+	private double fpp;
+
+	private volatile Map<UniqueField, BloomFilter<CharSequence>> filters;
+	private volatile long expectedInsertions;
+
+	public boolean isReady() {
+		return filters != null;
+	}
+
+	public boolean mightContain(UniqueField field, String value) {
+		Map<UniqueField, BloomFilter<CharSequence>> current = filters;
+		if (current == null || value == null) {
+			return true;
+		}
+		return current.get(field).mightContain(value);
+	}
+
+	public void put(UserUniqueValuesView values) {
+		put(filters, values.getUsername(), values.getEmail(), values.getNickname(), values.getPhoneNumber());
+	}
+
+	public void put(String username, String email, String nickname, String phoneNumber) {
+		put(filters, username, email, nickname, phoneNumber);
+	}
+
+	/**
+	 * 새 필터를 만들어 돌려준다. 채우기가 끝나면 {@link #swap} 으로 교체한다.
+	 */
+	public Map<UniqueField, BloomFilter<CharSequence>> newFilters(long expectedInsertions) {
+		Map<UniqueField, BloomFilter<CharSequence>> created = new EnumMap<>(UniqueField.class);
+		for (UniqueField field : UniqueField.values()) {
+			created.put(field, BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp));
+		}
+		return created;
+	}
+
+	public void putInto(Map<UniqueField, BloomFilter<CharSequence>> target, UserUniqueValuesView values) {
+		put(target, values.getUsername(), values.getEmail(), values.getNickname(), values.getPhoneNumber());
+	}
+
+	public void swap(Map<UniqueField, BloomFilter<CharSequence>> rebuilt, long expectedInsertions) {
+		this.expectedInsertions = expectedInsertions;
+		this.filters = rebuilt;
+	}
+
+	/**
+	 * 예상 건수를 넘겨 넣으면 오탐률이 설정값보다 커지므로 재구축이 필요하다.
+	 */
+	public boolean isSaturated() {
+		Map<UniqueField, BloomFilter<CharSequence>> current = filters;
+		return current != null && current.get(UniqueField.USERNAME).approximateElementCount() > expectedInsertions;
+	}
+
+	private void put(Map<UniqueField, BloomFilter<CharSequence>> target, String username, String email,
+		String nickname, String phoneNumber) {
+		if (target == null) {
+			return;
+		}
+		putValue(target, UniqueField.USERNAME, username);
+		putValue(target, UniqueField.EMAIL, email);
+		putValue(target, UniqueField.NICKNAME, nickname);
+		putValue(target, UniqueField.PHONE_NUMBER, phoneNumber);
+	}
+
+	private void putValue(Map<UniqueField, BloomFilter<CharSequence>> target, UniqueField field, String value) {
+		if (value != null) {
+			target.get(field).put(value);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package app.domain.user.uniqueness;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.google.common.hash.BloomFilter;
+
+import app.domain.user.event.UserCreatedEvent;
+import app.domain.user.model.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * unique 컬럼 블룸 필터 동기화
+ * - 기동 시 p_user 전체(탈퇴 행 포함)를 user_id 순으로 나눠 읽어 필터를 만든다.
+ * - 이 인스턴스의 가입은 커밋 직후 즉시 반영한다.
+ * - 다른 인스턴스의 가입과 탈퇴 익명화는 updated_at / deleted_at 변경분을 주기적으로 읽어 반영한다.
+ * 블룸 필터는 값을 지울 수 없으므로 탈퇴로 풀린 값은 재구축 전까지 "있을 수도 있음" 으로 남아 DB 로 확인된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueFieldFilterLoader {
+
+	private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+	private final UniqueFieldFilter uniqueFieldFilter;
+	private final UserRepository userRepository;
+
+	@Value("${user.uniqueness.filter.rebuild-batch-size:1000}")
+	private int rebuildBatchSize;
+
+	@Value("${user.uniqueness.filter.min-expected-insertions:100000}")
+	private long minExpectedInsertions;
+
+	private volatile LocalDateTime lastSyncStartedAt;
+
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		LocalDateTime startedAt = LocalDateTime.now();
+		try {
+			long expectedInsertions = Math.max(minExpectedInsertions, userRepository.countAllIncludingDeleted() * 2);
+			Map<UniqueField, BloomFilter<CharSequence>> rebuilt = uniqueFieldFilter.newFilters(expectedInsertions);
+			long loaded = 0;
+			Long lastUserId = 0L;
+			List<UserUniqueValuesView> batch;
+			do {
+				batch = userRepository.findUniqueValuesAfter(lastUserId, rebuildBatchSize);
+				for (UserUniqueValuesView values : batch) {
+					uniqueFieldFilter.putInto(rebuilt, values);
+				}
+				loaded += batch.size();
+				if (!batch.isEmpty()) {
+					lastUserId = batch.get(batch.size() - 1).getUserId();
+				}
+			} while (batch.size() == rebuildBatchSize);
+
+			uniqueFieldFilter.swap(rebuilt, expectedInsertions);
+			// 재구축 중 다른 스레드가 이전 필터에 넣은 값은 다음 변경분 동기화(startedAt 이후)가 다시 채운다.
+			lastSyncStartedAt = startedAt;
+			log.info("unique 컬럼 블룸 필터 구성 완료: {}건, 예상 건수 {}, {}ms", loaded, expectedInsertions,
+				Duration.between(startedAt, LocalDateTime.now()).toMillis());
+		} catch (RuntimeException e) {
+			log.error("unique 컬럼 블룸 필터 구성에 실패했습니다. 중복 검사는 DB 로 처리됩니다.", e);
+		}
+	}
+
+	@TransactionalEventListener
+	public void onUserCreated(UserCreatedEvent event) {
+		uniqueFieldFilter.put(event.getUsername(), event.getEmail(), event.getNickname(), event.getPhoneNumber());
+	}
+
+	@Scheduled(fixedDelayString = "${user.uniqueness.filter.sync-interval-ms:30000}")
+	public void syncChanges() {
+		if (!uniqueFieldFilter.isReady() || lastSyncStartedAt == null) {
+			return;
+		}
+		if (uniqueFieldFilter.isSaturated()) {
+			log.info("unique 컬럼 블룸 필터가 예상 건수를 넘어 재구축합니다.");
+			rebuild();
+			return;
+		}
+		LocalDateTime startedAt = LocalDateTime.now();
+		try {
+			List<UserUniqueValuesView> changes = userRepository.findUniqueValuesChangedSince(
+				lastSyncStartedAt.minus(SYNC_OVERLAP));
+			for (UserUniqueValuesView values : changes) {
+				uniqueFieldFilter.put(values);
+			}
+			lastSyncStartedAt = startedAt;
+		} catch (RuntimeException e) {
+			log.warn("unique 컬럼 블룸 필터 변경분 동기화에 실패했습니다.", e);
+		}
+	}
+}
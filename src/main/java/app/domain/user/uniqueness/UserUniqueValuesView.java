@@ -0,0 +1,18 @@
+package app.domain.user.uniqueness;
+
+/**
+ * 블룸 필터 구성용 프로젝션
+ * unique 제약은 탈퇴(soft delete)된 행에도 걸려 있으므로 @Where 가 적용되지 않는 native 쿼리로 조회한다.
+ */
+public interface UserUniqueValuesView {
+
+	Long getUserId();
+
+	String getUsername();
+
+	String getEmail();
+
+	String getNickname();
+
+	String getPhoneNumber();
+}
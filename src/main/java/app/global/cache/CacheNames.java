@@ -0,0 +1,20 @@
+package app.global.cache;
+
+import java.util.List;
+
+public final class CacheNames {
+
+	public static final String CUSTOMER_COUNT = "customerCount";
+	public static final String CUSTOMER_SEARCH_COUNT = "customerSearchCount";
+	public static final String USER_INFO = "userInfo";
+	public static final String USER_NAME = "userName";
+	public static final String USER_EXISTS = "userExists";
+	public static final String CUSTOMER_ADDRESSES = "customerAddresses";
+
+	public static final List<String> USER_PROFILE_CACHES = List.of(USER_INFO, USER_NAME, USER_EXISTS);
+	// userId 를 키로 쓰며 회원 단위 무효화(탈퇴, 주소 변경) 대상이 되는 캐시
+	public static final List<String> USER_SCOPED_CACHES = List.of(USER_INFO, USER_NAME, USER_EXISTS, CUSTOMER_ADDRESSES);
+
+	private CacheNames() {
+	}
+}
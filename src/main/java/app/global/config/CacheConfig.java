@@ -0,0 +1,67 @@
+package app.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.global.cache.CacheNames;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	@Value("${user.cache.customer-count.ttl:30s}")
+	private Duration customerCountTtl;
+
+	@Value("${user.cache.customer-count.max-size:10000}")
+	private long customerCountMaxSize;
+
+	@Value("${user.cache.profile.ttl:60s}")
+	private Duration profileTtl;
+
+	@Value("${user.cache.profile.max-size:100000}")
+	private long profileMaxSize;
+
+	@Value("${user.cache.address.ttl:10m}")
+	private Duration addressTtl;
+
+	@Value("${user.cache.address.max-size:50000}")
+	private long addressMaxSize;
+
+	@Bean
+	public CacheManager cacheManager() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache(CacheNames.CUSTOMER_COUNT, Caffeine.newBuilder()
+			.maximumSize(1)
+			.expireAfterWrite(customerCountTtl)
+			.recordStats()
+			.build());
+		cacheManager.registerCustomCache(CacheNames.CUSTOMER_SEARCH_COUNT, Caffeine.newBuilder()
+			.maximumSize(customerCountMaxSize)
+			.expireAfterWrite(customerCountTtl)
+			.recordStats()
+			.build());
+		// 다른 인스턴스의 무효화 알림을 놓치더라도 profileTtl 이 지나면 반드시 DB 에서 다시 읽는다.
+		for (String name : CacheNames.USER_PROFILE_CACHES) {
+			cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+				.maximumSize(profileMaxSize)
+				.expireAfterWrite(profileTtl)
+				.recordStats()
+				.build());
+		}
+		// 주소 변경은 커밋 후 무효화되므로 TTL 은 무효화 알림 유실에 대한 상한으로만 쓰인다.
+		cacheManager.registerCustomCache(CacheNames.CUSTOMER_ADDRESSES, Caffeine.newBuilder()
+			.maximumSize(addressMaxSize)
+			.expireAfterWrite(addressTtl)
+			.recordStats()
+			.build());
+		return cacheManager;
+	}
+}
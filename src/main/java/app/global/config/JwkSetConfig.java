@@ -0,0 +1,82 @@
+package app.global.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.web.client.RestTemplate;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import app.global.security.JwkSetCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 공통 모듈의 jwtDecoder 는 JWK Set 을 첫 요청 때 받는다. 같은 검증(RS256 서명, 기본 + audience + clock skew)을
+ * 미리 받아 둔 JwkSetCache 위에 다시 구성해 CachingJwtDecoder 의 위임 대상으로 쓴다.
+ */
+@Configuration
+public class JwkSetConfig {
+
+	@Bean
+	public JwkSetCache jwkSetCache(
+		RestTemplate restTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+		@Value("${user.security.jwks.min-refresh-interval:30s}") Duration minRefreshInterval,
+		@Value("${user.security.jwks.prefetch-on-startup:true}") boolean prefetchOnStartup
+	) {
+		JwkSetCache jwkSetCache = new JwkSetCache(restTemplate, jwkSetUri, minRefreshInterval, Clock.systemUTC(),
+			prefetchOnStartup);
+		Gauge.builder("user.security.jwks.age", jwkSetCache, JwkSetCache::ageSeconds)
+			.description("마지막으로 JWK Set 을 받은 뒤 지난 시간")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		return jwkSetCache;
+	}
+
+	@Bean
+	public NimbusJwtDecoder jwkSetJwtDecoder(
+		JwkSetCache jwkSetCache,
+		@Value("${jwt.audience}") String audience,
+		@Value("${jwt.clock-skew-seconds:60}") long clockSkewSeconds
+	) {
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSetCache));
+		// 클레임 검증은 아래 OAuth2TokenValidator 가 한다.
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+
+		NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+		decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+			JwtValidators.createDefault(),
+			audienceValidator(audience),
+			new JwtTimestampValidator(Duration.ofSeconds(clockSkewSeconds))));
+		return decoder;
+	}
+
+	private static OAuth2TokenValidator<Jwt> audienceValidator(String audience) {
+		return jwt -> {
+			List<String> audiences = jwt.getAudience();
+			if (audiences != null && audiences.contains(audience)) {
+				return OAuth2TokenValidatorResult.success();
+			}
+			return OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Invalid audience", null));
+		};
+	}
+}
@@ -0,0 +1,36 @@
+package app.global.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import app.global.security.CachingJwtDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * jwkSetJwtDecoder(JWK 서명 + 만료 + audience 검증, JwkSetConfig 참고)를 검증 결과 캐시로 감싼다.
+ * 공통 SecurityFilterChain 은 JwtDecoder 를 주입받으므로 @Primary 인 이 디코더가 쓰인다.
+ */
+@Configuration
+public class JwtCacheConfig {
+
+	@Bean
+	@Primary
+	public CachingJwtDecoder cachingJwtDecoder(
+		@Qualifier("jwkSetJwtDecoder") JwtDecoder jwtDecoder,
+		MeterRegistry meterRegistry,
+		@Value("${user.security.jwt-cache.max-size:100000}") long maximumSize,
+		@Value("${user.security.jwt-cache.max-ttl:10m}") Duration maxTtl
+	) {
+		CachingJwtDecoder decoder = new CachingJwtDecoder(jwtDecoder, maximumSize, maxTtl, Clock.systemUTC());
+		CaffeineCacheMetrics.monitor(meterRegistry, decoder.getCache(), "verifiedJwt");
+		return decoder;
+	}
+}
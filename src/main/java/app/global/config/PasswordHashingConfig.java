@@ -0,0 +1,66 @@
+package app.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class PasswordHashingConfig {
+
+	/**
+	 * 공통 모듈의 passwordEncoder 대신 cost(strength) 를 설정으로 조정할 수 있는 인코더를 사용한다.
+	 */
+	@Bean
+	@Primary
+	public PasswordEncoder userPasswordEncoder(@Value("${user.password.bcrypt-strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
+	}
+
+	/**
+	 * 해싱 전용 스레드 풀. 큐가 가득 차면 즉시 거절해 요청 스레드와 DB 커넥션이 해싱 대기로 묶이지 않게 한다.
+	 * defaultCandidate = false 라 Boot 의 applicationTaskExecutor 를 대신하지 않으므로 @Async 작업(색인 재구성 등)은
+	 * 이 풀을 쓰지 않고, PasswordHasher 만 이름으로 주입받는다.
+	 */
+	@Bean(defaultCandidate = false)
+	public ThreadPoolTaskExecutor passwordHashExecutor(
+		@Value("${user.password.hash-pool-size:0}") int poolSize,
+		@Value("${user.password.hash-queue-capacity:100}") int queueCapacity
+	) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hash-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 회원 일괄 가져오기 전용 해싱 풀. 가입용 풀과 분리해 가져오기 중에도 가입이 SIGNUP_BUSY 로 밀리지 않게 하고,
+	 * 큐가 차면 호출 스레드가 직접 해싱해 자연스럽게 속도를 늦춘다. passwordHashExecutor 와 같이 기본 실행기 후보에서 뺀다.
+	 */
+	@Bean(defaultCandidate = false)
+	public ThreadPoolTaskExecutor userImportHashExecutor(
+		@Value("${user.import.hash-pool-size:0}") int poolSize,
+		@Value("${user.import.chunk-size:500}") int chunkSize
+	) {
+		int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(chunkSize);
+		executor.setThreadNamePrefix("user-import-hash-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+}
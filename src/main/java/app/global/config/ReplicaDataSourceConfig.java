@@ -0,0 +1,89 @@
+package app.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import app.global.datasource.ReadYourWritesTracker;
+import app.global.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * user.datasource.replica-urls 가 있을 때만 켜진다. 없으면 spring.datasource 하나를 그대로 쓴다.
+ * primary 는 spring.datasource(.hikari) 설정으로, replica 는 같은 계정과 풀 설정에 URL 만 바꿔 만든다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${user.datasource.replica-urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(
+		DataSourceProperties properties,
+		Environment environment,
+		MeterRegistry meterRegistry,
+		@Value("${user.datasource.replica-urls}") List<String> replicaUrls,
+		@Value("${user.datasource.read-your-writes-window:5s}") Duration readYourWritesWindow
+	) {
+		MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+		HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+		primary.setPoolName("user-primary");
+		primary.setMetricsTrackerFactory(metrics);
+
+		List<DataSource> replicas = new ArrayList<>();
+		for (int i = 0; i < replicaUrls.size(); i++) {
+			HikariConfig config = new HikariConfig();
+			primary.copyStateTo(config);
+			config.setJdbcUrl(replicaUrls.get(i).trim());
+			config.setPoolName("user-replica-" + i);
+			config.setReadOnly(true);
+			// replica 가 내려가 있어도 기동은 하고, 읽기는 primary 로 돌린다.
+			config.setInitializationFailTimeout(-1);
+			config.setMetricsTrackerFactory(metrics);
+			replicas.add(new HikariDataSource(config));
+		}
+
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+			new ReadYourWritesTracker(readYourWritesWindow, 100_000), ReplicaDataSourceConfig::currentUser);
+		Gauge.builder("user.datasource.replicas.healthy", routing, ReplicaRoutingDataSource::healthyReplicaCount)
+			.description("읽기에 사용 중인 replica 수")
+			.register(meterRegistry);
+		return routing;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	private static String currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+}
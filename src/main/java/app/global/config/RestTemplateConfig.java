@@ -1,14 +1,116 @@
 package app.global.config;
 
+import java.net.URI;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * 내부 서비스 호출용 RestTemplate
+ * 커넥션 풀(keep-alive 재사용)과 연결/응답/풀 대기 타임아웃을 둔다. 재시도는 클라이언트가 아닌 호출부의 Retry 로만 한다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+	private static final String POOL_NAME = "internal";
+
+	@Value("${internal.http.max-total:200}")
+	private int maxTotal;
+
+	@Value("${internal.http.max-per-route:50}")
+	private int maxPerRoute;
+
+	@Value("${internal.http.auth-max-per-route:20}")
+	private int authMaxPerRoute;
+
+	@Value("${internal.http.connect-timeout:1s}")
+	private Duration connectTimeout;
+
+	@Value("${internal.http.read-timeout:3s}")
+	private Duration readTimeout;
+
+	@Value("${internal.http.connection-request-timeout:500ms}")
+	private Duration connectionRequestTimeout;
+
+	@Value("${internal.http.time-to-live:5m}")
+	private Duration timeToLive;
+
+	@Value("${internal.http.idle-timeout:30s}")
+	private Duration idleTimeout;
+
+	@Value("${auth.service.url:http://localhost:8083}")
+	private String authServiceUrl;
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager internalConnectionManager() {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotal)
+			.setMaxConnPerRoute(maxPerRoute)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(connectTimeout))
+				.setSocketTimeout(Timeout.of(readTimeout))
+				.setTimeToLive(TimeValue.of(timeToLive))
+				.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+				.build())
+			.build();
+		connectionManager.setMaxPerRoute(routeOf(authServiceUrl), authMaxPerRoute);
+		return connectionManager;
+	}
+
+	/**
+	 * 풀은 실제 요청의 route(포트가 확정된 호스트)로 커넥션을 나누므로, URL 에 포트가 없으면 scheme 기본 포트를 채워야 한도가 적용된다.
+	 */
+	private static HttpRoute routeOf(String url) {
+		URI uri = URI.create(url);
+		int port = uri.getPort() > 0 ? uri.getPort() : URIScheme.HTTPS.same(uri.getScheme()) ? 443 : 80;
+		return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port));
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient internalHttpClient(PoolingHttpClientConnectionManager internalConnectionManager) {
+		return HttpClients.custom()
+			.setConnectionManager(internalConnectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+				.setResponseTimeout(Timeout.of(readTimeout))
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.of(idleTimeout))
+			.disableAutomaticRetries()
+			.build();
+	}
+
+	@Bean
+	public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient internalHttpClient) {
+		return restTemplateBuilder
+			.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(internalHttpClient))
+			.build();
+	}
+
+	/**
+	 * httpcomponents.httpclient.pool.* (leased / available / pending / max) 지표
+	 */
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public MeterBinder internalConnectionPoolMetrics(PoolingHttpClientConnectionManager internalConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(internalConnectionManager, POOL_NAME);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package app.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import app.global.sql.SqlStatementFilter;
+import app.global.sql.SqlStatementListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * hibernate.show_sql 은 모든 문장을 stdout 에 찍으므로 쓰지 않고,
+ * DataSource 를 datasource-proxy 로 감싸 느린 문장 로그와 요청별 문장 수 집계로 대신한다.
+ */
+@Configuration
+public class SqlStatementConfig {
+
+	@Bean
+	public static BeanPostProcessor sqlStatementProxyPostProcessor(
+		@Value("${user.sql.slow-threshold-ms:200}") long slowThresholdMillis,
+		@Value("${user.sql.sample-rate:0.0}") double sampleRate
+	) {
+		SqlStatementListener listener = new SqlStatementListener(slowThresholdMillis, sampleRate);
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				// replica 라우팅을 쓰면 DataSource 빈이 여럿이 되므로 애플리케이션이 쓰는 dataSource 하나만 감싼다.
+				if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+					&& !(bean instanceof ProxyDataSource)) {
+					return ProxyDataSourceBuilder.create(dataSource)
+						.name(beanName)
+						.listener(listener)
+						.build();
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(MeterRegistry meterRegistry,
+		@Value("${user.sql.request-statement-warn:20}") int statementWarnThreshold) {
+		FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+			new SqlStatementFilter(meterRegistry, statementWarnThreshold));
+		registration.addUrlPatterns("/*");
+		return registration;
+	}
+}
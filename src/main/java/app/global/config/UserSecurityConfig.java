@@ -1,5 +1,6 @@
 package app.global.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -14,7 +15,22 @@ public class UserSecurityConfig {
 	@Order(0)
 	public SecurityFilterChain userFilterChain(HttpSecurity http) throws Exception {
 		http
-			.securityMatcher("/signup")
+			.securityMatcher("/signup", "/user/availability")
+			.authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+			.csrf(AbstractHttpConfigurer::disable);
+
+		return http.build();
+	}
+
+	/**
+	 * Prometheus 수집 경로는 management.server.port 에서만 열리므로 그 포트의 요청만 인증 없이 허용한다.
+	 * 애플리케이션 포트(게이트웨이 경유)에는 actuator 가 없고, 나머지 actuator 는 공통 체인의 인증을 그대로 거친다.
+	 */
+	@Bean
+	@Order(1)
+	public SecurityFilterChain prometheusFilterChain(HttpSecurity http) throws Exception {
+		http
+			.securityMatcher(EndpointRequest.to("prometheus"))
 			.authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
 			.csrf(AbstractHttpConfigurer::disable);
 
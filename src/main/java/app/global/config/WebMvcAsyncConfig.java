@@ -0,0 +1,46 @@
+package app.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 처리(StreamingResponseBody) 실행기. 이 서비스에서는 고객 내보내기만 쓴다.
+ * 내보내기는 요청 하나가 수 분 동안 스레드와 DB 커넥션을 잡으므로 동시에 도는 수를 제한하고,
+ * 한도와 대기열이 모두 차면 거절한다. 타임아웃은 전역이 아니라 내보내기 요청에만 건다. (ExportTimeoutInterceptor)
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+	private final ThreadPoolTaskExecutor exportTaskExecutor;
+
+	public WebMvcAsyncConfig(@Qualifier("exportTaskExecutor") ThreadPoolTaskExecutor exportTaskExecutor) {
+		this.exportTaskExecutor = exportTaskExecutor;
+	}
+
+	@Bean(defaultCandidate = false)
+	public static ThreadPoolTaskExecutor exportTaskExecutor(
+		@Value("${user.export.max-concurrent:4}") int maxConcurrent,
+		@Value("${user.export.queue-capacity:4}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(maxConcurrent);
+		executor.setMaxPoolSize(maxConcurrent);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("user-export-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(exportTaskExecutor);
+	}
+}
@@ -0,0 +1,34 @@
+package app.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 이 안에서 처음 커넥션을 얻는 조회는 읽기 전용 트랜잭션이어도 primary 에서 읽는다.
+ * 캐시를 채우는 조회처럼 복제 지연된 값을 TTL 동안 남기면 안 되는 곳에 쓴다.
+ * (SimpleJpaRepository 의 findById 등은 자체 readOnly 트랜잭션을 열므로 호출부에 트랜잭션이 없어도 replica 로 갈 수 있다)
+ */
+public final class PrimaryReads {
+
+	private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+	private PrimaryReads() {
+	}
+
+	public static <T> T call(Supplier<T> read) {
+		Boolean previous = PINNED.get();
+		PINNED.set(Boolean.TRUE);
+		try {
+			return read.get();
+		} finally {
+			if (previous == null) {
+				PINNED.remove();
+			} else {
+				PINNED.set(previous);
+			}
+		}
+	}
+
+	static boolean pinned() {
+		return PINNED.get() != null;
+	}
+}
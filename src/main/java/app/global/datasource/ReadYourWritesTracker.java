@@ -0,0 +1,33 @@
+package app.global.datasource;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 최근에 쓰기 트랜잭션을 연 사용자. window 동안은 그 사용자의 읽기 전용 트랜잭션도 primary 로 보내
+ * 복제 지연 때문에 방금 쓴 값이 안 보이는 일을 막는다. 인스턴스 로컬 기록이므로 같은 사용자의 다음 요청이
+ * 다른 인스턴스로 가면 보장되지 않는다. (window 는 복제 지연보다 넉넉히 둔다)
+ */
+public class ReadYourWritesTracker {
+
+	private final Cache<String, Boolean> recentWriters;
+
+	public ReadYourWritesTracker(Duration window, long maximumSize) {
+		this.recentWriters = Caffeine.newBuilder()
+			.expireAfterWrite(window)
+			.maximumSize(maximumSize)
+			.build();
+	}
+
+	public void markWrite(String user) {
+		if (user != null) {
+			recentWriters.put(user, Boolean.TRUE);
+		}
+	}
+
+	public boolean wroteRecently(String user) {
+		return user != null && recentWriters.getIfPresent(user) != null;
+	}
+}
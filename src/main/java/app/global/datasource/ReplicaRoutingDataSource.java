@@ -0,0 +1,154 @@
+package app.global.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션은 정상인 replica 중 하나(라운드 로빈)로, 나머지는 primary 로 보낸다.
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로 반드시 LazyConnectionDataSourceProxy 뒤에 두어
+ *   첫 문장을 실행할 때 커넥션을 고르게 한다.
+ * - 쓰기 트랜잭션을 연 사용자는 ReadYourWritesTracker 의 window 동안 읽기도 primary 로 간다.
+ * - PrimaryReads 로 감싼 조회(캐시를 채우는 조회)는 읽기 전용이어도 primary 로 간다.
+ * - replica 커넥션을 얻지 못하면 그 replica 를 비정상으로 표시하고 primary 로 대신 연결한다.
+ *   비정상 replica 는 주기적인 검사에서 다시 연결되면 복귀한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final ReadYourWritesTracker readYourWritesTracker;
+	private final Supplier<String> currentUser;
+	private final AtomicInteger next = new AtomicInteger();
+
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+		ReadYourWritesTracker readYourWritesTracker, Supplier<String> currentUser) {
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		this.readYourWritesTracker = readYourWritesTracker;
+		this.currentUser = currentUser;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connect(DataSource::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return connect(dataSource -> dataSource.getConnection(username, password));
+	}
+
+	private Connection connect(ConnectionSource source) throws SQLException {
+		Replica replica = route();
+		if (replica == null) {
+			return source.connect(primary);
+		}
+		try {
+			return source.connect(replica.dataSource);
+		} catch (SQLException e) {
+			replica.markDown(e);
+			return source.connect(primary);
+		}
+	}
+
+	/**
+	 * @return 읽을 replica, primary 로 가야 하면 null
+	 */
+	private Replica route() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return null;
+		}
+		String user = currentUser.get();
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			readYourWritesTracker.markWrite(user);
+			return null;
+		}
+		if (PrimaryReads.pinned() || readYourWritesTracker.wroteRecently(user)) {
+			return null;
+		}
+		int size = replicas.size();
+		int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (replica.healthy) {
+				return replica;
+			}
+		}
+		return null;
+	}
+
+	@Scheduled(fixedDelayString = "${user.datasource.replica-health-interval-ms:5000}")
+	public void checkReplicas() {
+		for (Replica replica : replicas) {
+			try (Connection connection = replica.dataSource.getConnection()) {
+				if (connection.isValid(1)) {
+					replica.markUp();
+				} else {
+					replica.markDown(null);
+				}
+			} catch (SQLException e) {
+				replica.markDown(e);
+			}
+		}
+	}
+
+	public int healthyReplicaCount() {
+		return (int)replicas.stream().filter(replica -> replica.healthy).count();
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof Closeable closeable) {
+				closeable.close();
+			}
+		}
+		if (primary instanceof Closeable closeable) {
+			closeable.close();
+		}
+	}
+
+	@FunctionalInterface
+	private interface ConnectionSource {
+
+		Connection connect(DataSource dataSource) throws SQLException;
+	}
+
+	private static final class Replica {
+
+		private final DataSource dataSource;
+		private volatile boolean healthy = true;
+
+		private Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		private void markDown(SQLException cause) {
+			if (healthy) {
+				healthy = false;
+				log.warn("replica 를 사용할 수 없어 읽기를 primary 로 보냅니다. replica={}", dataSource, cause);
+			}
+		}
+
+		private void markUp() {
+			if (!healthy) {
+				healthy = true;
+				log.info("replica 가 복구되어 다시 읽기에 사용합니다. replica={}", dataSource);
+			}
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package app.global.pagination;
+
+/**
+ * 목록/검색 조회 시 전체 건수 계산 방식
+ * EXACT     : 매 요청 count(*) (기본값, 기존 PagedResponse 와 동일)
+ * ESTIMATED : 짧은 TTL 로 캐시된 count 를 사용 (totalElements/totalPages 가 근사치일 수 있음)
+ * NONE      : count 없이 다음 페이지 존재 여부(hasNext)만 반환
+ */
+public enum CountMode {
+	EXACT, ESTIMATED, NONE
+}
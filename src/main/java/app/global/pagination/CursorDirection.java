@@ -0,0 +1,5 @@
+package app.global.pagination;
+
+public enum CursorDirection {
+	NEXT, PREV
+}
@@ -0,0 +1,66 @@
+package app.global.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CursorPagedResponse<T> {
+
+	private List<T> content;
+	private int size;
+	private String nextCursor;
+	private String prevCursor;
+	private boolean hasNext;
+	private boolean hasPrev;
+
+	public CursorPagedResponse() {
+	}
+
+	public CursorPagedResponse(List<T> content, int size, String nextCursor, String prevCursor, boolean hasNext, boolean hasPrev) {
+		this.content = content;
+		this.size = size;
+		this.nextCursor = nextCursor;
+		this.prevCursor = prevCursor;
+		this.hasNext = hasNext;
+		this.hasPrev = hasPrev;
+	}
+
+	/**
+	 * @param rows      size + 1 개까지 조회한 결과. PREV 방향이면 역순(오래된 순)으로 조회된 상태
+	 * @param cursor    요청 커서. null 이면 첫 페이지
+	 */
+	public static <E, T> CursorPagedResponse<T> of(List<E> rows, int size, UserCursor cursor, CursorDirection direction,
+		Function<E, UserCursor> keyOf, Function<E, T> mapper) {
+		boolean hasMore = rows.size() > size;
+		List<E> page = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+
+		boolean hasNext;
+		boolean hasPrev;
+		if (direction == CursorDirection.PREV) {
+			Collections.reverse(page);
+			hasNext = cursor != null;
+			hasPrev = hasMore;
+		} else {
+			hasNext = hasMore;
+			hasPrev = cursor != null;
+		}
+
+		String nextCursor = hasNext && !page.isEmpty() ? keyOf.apply(page.get(page.size() - 1)).encode() : null;
+		String prevCursor = hasPrev && !page.isEmpty() ? keyOf.apply(page.get(0)).encode() : null;
+
+		return CursorPagedResponse.<T>builder()
+			.content(page.stream().map(mapper).toList())
+			.size(size)
+			.nextCursor(nextCursor)
+			.prevCursor(prevCursor)
+			.hasNext(hasNext)
+			.hasPrev(hasPrev)
+			.build();
+	}
+}
@@ -0,0 +1,37 @@
+package app.global.pagination;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SlicedResponse<T> {
+
+	private List<T> content;
+	private int page;
+	private int size;
+	private boolean hasNext;
+
+	public SlicedResponse() {
+	}
+
+	public SlicedResponse(List<T> content, int page, int size, boolean hasNext) {
+		this.content = content;
+		this.page = page;
+		this.size = size;
+		this.hasNext = hasNext;
+	}
+
+	public static <T> SlicedResponse<T> from(Slice<T> slice) {
+		return SlicedResponse.<T>builder()
+			.content(slice.getContent())
+			.page(slice.getNumber())
+			.size(slice.getSize())
+			.hasNext(slice.hasNext())
+			.build();
+	}
+}
@@ -0,0 +1,55 @@
+package app.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.util.StringUtils;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * (created_at, user_id) 기준 keyset 페이지네이션 커서
+ * 클라이언트에는 base64url 로 인코딩된 불투명 문자열로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserCursor {
+
+	private static final String DELIMITER = "|";
+
+	private final LocalDateTime createdAt;
+	private final Long userId;
+
+	public static UserCursor of(LocalDateTime createdAt, Long userId) {
+		return new UserCursor(createdAt, userId);
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + userId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return 빈 문자열이면 첫 페이지를 의미하는 null
+	 * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+	 */
+	public static UserCursor decode(String cursor) {
+		if (!StringUtils.hasText(cursor)) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int idx = raw.lastIndexOf(DELIMITER);
+			if (idx < 0) {
+				throw new IllegalArgumentException("invalid cursor: " + cursor);
+			}
+			return new UserCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+		} catch (DateTimeParseException | NumberFormatException e) {
+			throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+		}
+	}
+}
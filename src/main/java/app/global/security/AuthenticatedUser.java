@@ -0,0 +1,23 @@
+package app.global.security;
+
+import org.springframework.security.core.Authentication;
+
+import app.commonUtil.security.TokenPrincipalParser;
+
+/**
+ * 인증 정보에서 숫자 userId 를 꺼낸다. CachingJwtDecoder 를 거친 토큰이면 검증 시 변환해 둔 값을 그대로 쓰고,
+ * 그 밖의 경우(테스트의 목 인증 등)에는 기존처럼 TokenPrincipalParser 로 읽는다.
+ */
+public final class AuthenticatedUser {
+
+	private AuthenticatedUser() {
+	}
+
+	public static Long userId(Authentication authentication, TokenPrincipalParser tokenPrincipalParser) {
+		if (authentication != null && authentication.getPrincipal() instanceof VerifiedJwt jwt
+			&& jwt.getUserId() != null) {
+			return jwt.getUserId();
+		}
+		return Long.parseLong(tokenPrincipalParser.getUserId(authentication));
+	}
+}
@@ -0,0 +1,101 @@
+package app.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 이미 검증한 토큰을 SHA-256 해시로 기억해 같은 토큰이 다시 오면 파싱과 서명 검증을 건너뛴다.
+ * - 항목은 토큰의 exp 에 (길어도 maxTtl 뒤에) 만료되므로 만료된 토큰이 캐시로 통과하는 일은 없다.
+ * - 검증에 실패한 토큰은 기억하지 않는다.
+ * - 토큰 원문은 키로 쓰지 않아 힙 덤프에 남지 않는다. (값인 Jwt 에는 남는다)
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+	private final JwtDecoder delegate;
+	private final Clock clock;
+	private final Cache<String, VerifiedJwt> verified;
+
+	public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, Clock clock) {
+		this.delegate = delegate;
+		this.clock = clock;
+		this.verified = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new UntilTokenExpiry(maxTtl, clock))
+			.recordStats()
+			.build();
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		String key = hash(token);
+		VerifiedJwt cached = verified.getIfPresent(key);
+		if (cached != null && !isExpired(cached)) {
+			return cached;
+		}
+
+		VerifiedJwt jwt = new VerifiedJwt(delegate.decode(token));
+		verified.put(key, jwt);
+		return jwt;
+	}
+
+	public Cache<String, VerifiedJwt> getCache() {
+		return verified;
+	}
+
+	private boolean isExpired(Jwt jwt) {
+		return jwt.getExpiresAt() != null && !clock.instant().isBefore(jwt.getExpiresAt());
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class UntilTokenExpiry implements Expiry<String, VerifiedJwt> {
+
+		private final long maxTtlNanos;
+		private final Clock clock;
+
+		private UntilTokenExpiry(Duration maxTtl, Clock clock) {
+			this.maxTtlNanos = maxTtl.toNanos();
+			this.clock = clock;
+		}
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedJwt jwt, long currentTime) {
+			Instant expiresAt = jwt.getExpiresAt();
+			if (expiresAt == null) {
+				return maxTtlNanos;
+			}
+			long untilExpiry = Duration.between(clock.instant(), expiresAt).toNanos();
+			return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedJwt jwt, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, jwt, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedJwt jwt, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package app.global.security;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 서비스의 JWK Set 을 미리 받아 두고 메모리에서 서명 키를 찾는 JWKSource.
+ * - 싱글톤 생성이 끝나면(웹 서버가 포트를 열기 전) 한 번 받아 두므로 배포 직후 첫 요청이 원격 호출을 기다리지 않는다.
+ *   (user.security.jwks.prefetch-on-startup=false 면 건너뛴다)
+ * - user.security.jwks.refresh-interval-ms 마다 백그라운드에서 갱신하고, 실패하면 마지막으로 받은 키를 계속 쓴다.
+ * - 모르는 kid 가 오면(키 교체 직후) min-refresh-interval 에 한 번만 요청 스레드에서 다시 받는다.
+ */
+@Slf4j
+public class JwkSetCache implements JWKSource<SecurityContext>, SmartInitializingSingleton {
+
+	private final RestOperations restOperations;
+	private final String jwkSetUri;
+	private final Duration minRefreshInterval;
+	private final Clock clock;
+	private final boolean prefetchOnStartup;
+
+	private volatile JWKSet jwkSet;
+	private volatile Instant fetchedAt;
+	private volatile Instant lastAttemptAt = Instant.EPOCH;
+
+	public JwkSetCache(RestOperations restOperations, String jwkSetUri, Duration minRefreshInterval, Clock clock) {
+		this(restOperations, jwkSetUri, minRefreshInterval, clock, true);
+	}
+
+	public JwkSetCache(RestOperations restOperations, String jwkSetUri, Duration minRefreshInterval, Clock clock,
+		boolean prefetchOnStartup) {
+		this.restOperations = restOperations;
+		this.jwkSetUri = jwkSetUri;
+		this.minRefreshInterval = minRefreshInterval;
+		this.clock = clock;
+		this.prefetchOnStartup = prefetchOnStartup;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!prefetchOnStartup) {
+			return;
+		}
+		if (!refresh()) {
+			// 인증 서비스가 늦게 뜨는 경우까지 기동을 막지는 않는다. 첫 요청이나 다음 주기에 다시 받는다.
+			log.warn("기동 중 JWK Set 을 받지 못했습니다. uri={}", jwkSetUri);
+		}
+	}
+
+	@Scheduled(initialDelayString = "${user.security.jwks.refresh-interval-ms:300000}",
+		fixedDelayString = "${user.security.jwks.refresh-interval-ms:300000}")
+	public void scheduledRefresh() {
+		refresh();
+	}
+
+	/**
+	 * JWK Set 을 다시 받는다. 실패하면 기존 키를 그대로 두고 false 를 돌려준다.
+	 */
+	public synchronized boolean refresh() {
+		lastAttemptAt = clock.instant();
+		try {
+			String body = restOperations.getForObject(jwkSetUri, String.class);
+			JWKSet fetched = body == null ? new JWKSet() : JWKSet.parse(body);
+			if (fetched.getKeys().isEmpty()) {
+				log.warn("JWK Set 이 비어 있어 기존 키를 유지합니다. uri={}", jwkSetUri);
+				return false;
+			}
+			jwkSet = fetched;
+			fetchedAt = clock.instant();
+			return true;
+		} catch (RestClientException | ParseException e) {
+			log.warn("JWK Set 갱신에 실패해 마지막 키를 유지합니다. uri={}, ageSeconds={}, reason={}",
+				jwkSetUri, ageSeconds(), e.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+		JWKSet current = jwkSet;
+		if (current != null) {
+			List<JWK> matches = jwkSelector.select(current);
+			if (!matches.isEmpty() || !refreshAllowed()) {
+				return matches;
+			}
+		}
+		if (!refreshIfStale() && current == null) {
+			throw new KeySourceException("JWK Set 을 받지 못했습니다: " + jwkSetUri);
+		}
+		return jwkSelector.select(jwkSet);
+	}
+
+	private synchronized boolean refreshIfStale() {
+		// 같은 kid 로 몰린 요청들이 기다리는 동안 앞선 요청이 이미 받았다면 다시 받지 않는다.
+		return refreshAllowed() ? refresh() : jwkSet != null;
+	}
+
+	private boolean refreshAllowed() {
+		return !clock.instant().isBefore(lastAttemptAt.plus(minRefreshInterval));
+	}
+
+	/**
+	 * 마지막으로 JWK Set 을 받은 뒤 지난 시간(초). 한 번도 받지 못했으면 NaN.
+	 */
+	public double ageSeconds() {
+		Instant at = fetchedAt;
+		return at == null ? Double.NaN : Duration.between(at, clock.instant()).toMillis() / 1000.0;
+	}
+}
@@ -0,0 +1,34 @@
+package app.global.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * 서명, 만료, audience 검증을 통과한 토큰. user_id 클레임을 검증 시점에 한 번만 숫자로 바꿔 둔다.
+ * 서비스 간 호출처럼 user_id 가 없거나 숫자가 아닌 토큰은 userId 가 null 이다.
+ */
+public class VerifiedJwt extends Jwt {
+
+	static final String USER_ID_CLAIM = "user_id";
+
+	private final Long userId;
+
+	VerifiedJwt(Jwt jwt) {
+		super(jwt.getTokenValue(), jwt.getIssuedAt(), jwt.getExpiresAt(), jwt.getHeaders(), jwt.getClaims());
+		this.userId = parseUserId(jwt.getClaimAsString(USER_ID_CLAIM));
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	private static Long parseUserId(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Long.valueOf(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package app.global.sql;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔드포인트(매핑된 URI 패턴)별 SQL 문장 수와 DB 시간을 user.sql.* 로 기록한다.
+ * 한 요청의 문장 수가 user.sql.request-statement-warn 이상이면 N+1 의심으로 WARN 을 남긴다.
+ */
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+	private final MeterRegistry meterRegistry;
+	private final int statementWarnThreshold;
+
+	public SqlStatementFilter(MeterRegistry meterRegistry, int statementWarnThreshold) {
+		this.meterRegistry = meterRegistry;
+		this.statementWarnThreshold = statementWarnThreshold;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		SqlStatementStats stats = SqlStatementStats.open();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			SqlStatementStats.close();
+			record(request, stats);
+		}
+	}
+
+	private void record(HttpServletRequest request, SqlStatementStats stats) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+		String method = request.getMethod();
+
+		DistributionSummary.builder("user.sql.statements")
+			.description("요청 하나에서 실행된 SQL 문장 수")
+			.tag("method", method)
+			.tag("uri", uri)
+			.register(meterRegistry)
+			.record(stats.getStatements());
+		Timer.builder("user.sql.time")
+			.description("요청 하나에서 SQL 실행에 쓴 시간")
+			.tag("method", method)
+			.tag("uri", uri)
+			.register(meterRegistry)
+			.record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+		if (stats.getStatements() >= statementWarnThreshold) {
+			log.warn("요청 하나에서 SQL {}건 실행 (N+1 의심) {} {} dbTime={}ms", stats.getStatements(), method, uri,
+				stats.getElapsedMillis());
+		} else if (log.isDebugEnabled()) {
+			log.debug("{} {} sql={} dbTime={}ms", method, uri, stats.getStatements(), stats.getElapsedMillis());
+		}
+	}
+}
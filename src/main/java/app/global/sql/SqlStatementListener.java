@@ -0,0 +1,81 @@
+package app.global.sql;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * show_sql 대신 쓰는 문장 단위 기록
+ * - 모든 문장을 요청별 SqlStatementStats 에 센다. (배치 실행은 한 번의 왕복이므로 1문장)
+ * - slowThresholdMillis 이상 걸린 문장만 WARN 으로 남기고, 나머지는 sampleRate 비율로만 INFO 로 남긴다.
+ * - 바인드 값은 개인정보가 섞이므로 남기지 않고 타입만 남긴다. SQL 에 직접 들어간 문자열 리터럴도 '?' 로 가린다.
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+	// 작은따옴표 두 개('')로 이스케이프한 따옴표까지 포함한 문자열 리터럴
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+	private final long slowThresholdMillis;
+	private final double sampleRate;
+
+	public SqlStatementListener(long slowThresholdMillis, double sampleRate) {
+		this.slowThresholdMillis = slowThresholdMillis;
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		long elapsed = execInfo.getElapsedTime();
+		SqlStatementStats.record(elapsed);
+
+		if (elapsed >= slowThresholdMillis) {
+			log.warn("느린 SQL {}ms batch={} success={} sql=[{}] params={}", elapsed, execInfo.getBatchSize(),
+				execInfo.isSuccess(), sql(queryInfoList), maskedParameters(queryInfoList));
+		} else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			log.info("SQL 샘플 {}ms batch={} sql=[{}] params={}", elapsed, execInfo.getBatchSize(),
+				sql(queryInfoList), maskedParameters(queryInfoList));
+		}
+	}
+
+	private static String sql(List<QueryInfo> queryInfoList) {
+		return queryInfoList.stream()
+			.map(queryInfo -> maskLiterals(queryInfo.getQuery()))
+			.collect(Collectors.joining("; "));
+	}
+
+	static String maskLiterals(String sql) {
+		return STRING_LITERAL.matcher(sql).replaceAll("'?'");
+	}
+
+	/**
+	 * 배치는 첫 번째 파라미터 묶음만 남긴다. 예: [Long, String, null]
+	 */
+	static String maskedParameters(List<QueryInfo> queryInfoList) {
+		if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+			return "[]";
+		}
+		return queryInfoList.get(0).getParametersList().get(0).stream()
+			.map(SqlStatementListener::typeOf)
+			.collect(Collectors.joining(", ", "[", "]"));
+	}
+
+	private static String typeOf(ParameterSetOperation operation) {
+		Object[] args = operation.getArgs();
+		if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+			return "null";
+		}
+		return args[1].getClass().getSimpleName();
+	}
+}
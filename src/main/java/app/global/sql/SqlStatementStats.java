@@ -0,0 +1,42 @@
+package app.global.sql;
+
+/**
+ * 요청 스레드 하나에서 실행된 SQL 문장 수와 DB 시간. SqlStatementFilter 가 요청 시작 시 열고 끝날 때 닫는다.
+ * 요청 밖(스케줄러, 비동기 스트리밍 응답 등)에서 실행된 문장은 집계하지 않는다.
+ */
+public final class SqlStatementStats {
+
+	private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+	private int statements;
+	private long elapsedMillis;
+
+	private SqlStatementStats() {
+	}
+
+	static SqlStatementStats open() {
+		SqlStatementStats stats = new SqlStatementStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	static void close() {
+		CURRENT.remove();
+	}
+
+	static void record(long elapsedMillis) {
+		SqlStatementStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.statements++;
+			stats.elapsedMillis += elapsedMillis;
+		}
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+}
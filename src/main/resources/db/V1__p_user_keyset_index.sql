@@ -0,0 +1,9 @@
+-- 관리자 고객 목록/검색 keyset 페이지네이션 (created_at, user_id) seek 용 인덱스
+-- 운영 DB 에는 잠금을 피하기 위해 트랜잭션 밖에서 CONCURRENTLY 로 적용한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_p_user_role_created_at_user_id
+    ON p_user (user_role, created_at DESC, user_id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_p_user_created_at_user_id
+    ON p_user (created_at DESC, user_id DESC)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,3 @@
+-- 사용자 검색 색인 변경분 동기화(updated_at / deleted_at 기준) 조회용 인덱스
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_p_user_updated_at ON p_user (updated_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_p_user_deleted_at ON p_user (deleted_at) WHERE deleted_at IS NOT NULL;
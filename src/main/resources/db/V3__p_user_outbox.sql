@@ -0,0 +1,17 @@
+-- 회원 탈퇴 시 Auth 서비스 로그아웃 등 외부 호출을 트랜잭션과 함께 기록하는 outbox
+CREATE TABLE IF NOT EXISTS p_user_outbox (
+	outbox_id       BIGSERIAL PRIMARY KEY,
+	event_type      VARCHAR(30)  NOT NULL,
+	user_id         BIGINT       NOT NULL,
+	status          VARCHAR(20)  NOT NULL,
+	attempts        INT          NOT NULL DEFAULT 0,
+	next_attempt_at TIMESTAMP    NOT NULL,
+	last_error      VARCHAR(500),
+	created_at      TIMESTAMP    NOT NULL,
+	sent_at         TIMESTAMP
+);
+
+-- dispatcher 의 전달 대상 조회용
+CREATE INDEX IF NOT EXISTS idx_p_user_outbox_pending ON p_user_outbox (next_attempt_at, outbox_id) WHERE status = 'PENDING';
+-- 전송 완료 행 정리용
+CREATE INDEX IF NOT EXISTS idx_p_user_outbox_sent_at ON p_user_outbox (sent_at) WHERE status = 'SENT';
@@ -0,0 +1,8 @@
+-- 회원별 동일 주소 중복 등록 방지 (탈퇴/삭제된 주소는 제외)
+-- 애플리케이션은 사전 조회 없이 INSERT 후 이 인덱스 위반(uk_p_user_address_user_address)으로 중복을 판별한다.
+-- 적용 전 아래 쿼리로 기존 중복 행이 없는지 확인한다.
+--   SELECT user_id, address, address_detail, COUNT(*) FROM p_user_address
+--   WHERE deleted_at IS NULL GROUP BY 1, 2, 3 HAVING COUNT(*) > 1;
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_p_user_address_user_address
+    ON p_user_address (user_id, address, address_detail)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,18 @@
+-- p_user.user_id 를 IDENTITY 에서 pooled 시퀀스(allocationSize 50)로 전환
+-- 각 인스턴스는 nextval 한 번으로 50개 id 블록을 받아 메모리에서 나눠 쓰므로 여러 노드에서 동시에 생성해도 겹치지 않고,
+-- Hibernate 가 INSERT 를 flush 시점까지 미뤄 JDBC 배치로 묶을 수 있다.
+-- 배포 순서: 이 스크립트 적용 -> 새 버전 배포. 기존 버전은 IDENTITY 기본값이 사라지면 가입이 실패하므로 두 단계 사이에 가입 트래픽을 막는다.
+BEGIN;
+
+LOCK TABLE p_user IN EXCLUSIVE MODE;
+
+-- 기존 기본값(IDENTITY 또는 BIGSERIAL)을 제거해 다른 경로로 발급된 id 가 시퀀스 블록과 겹치지 않게 한다.
+ALTER TABLE p_user ALTER COLUMN user_id DROP IDENTITY IF EXISTS;
+ALTER TABLE p_user ALTER COLUMN user_id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS p_user_seq INCREMENT BY 50 START WITH 1;
+
+-- pooled 최적화기는 nextval 값을 블록의 상한으로 쓰므로(상한-49 ~ 상한) 기존 최댓값 + 50 보다 크게 시작해야 한다.
+SELECT setval('p_user_seq', (SELECT COALESCE(MAX(user_id), 0) FROM p_user) + 51, false);
+
+COMMIT;
@@ -35,7 +35,7 @@ import app.domain.customer.dto.response.AddCustomerAddressResponse;
 import app.domain.customer.dto.response.GetCustomerAddressListResponse;
 import app.domain.customer.dto.response.UpdateCustomerAddressResponse;
 import app.domain.customer.status.CustomerSuccessStatus;
-import app.global.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
 
 @WebMvcTest(CustomerAddressController.class)
 @DisplayName("CustomerAddressController 테스트")
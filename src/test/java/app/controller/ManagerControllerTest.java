@@ -3,6 +3,7 @@ package app.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -33,10 +34,13 @@ import app.domain.manager.ManagerController;
 import app.domain.manager.ManagerService;
 import app.domain.manager.dto.response.GetCustomerDetailResponse;
 import app.domain.manager.dto.response.GetCustomerListResponse;
+import app.domain.manager.exporter.ExportTimeoutInterceptor;
+import app.domain.manager.exporter.UserExportService;
+import app.domain.manager.importer.UserImportService;
 import app.domain.manager.status.ManagerSuccessStatus;
-import app.global.apiPayload.PagedResponse;
-import app.global.apiPayload.code.status.ErrorStatus;
-import app.global.apiPayload.exception.GeneralException;
+import app.commonUtil.apiPayload.PagedResponse;
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
 
 @WebMvcTest(ManagerController.class)
 @DisplayName("ManagerController 테스트")
@@ -52,6 +56,15 @@ class ManagerControllerTest {
 	@MockitoBean
 	private ManagerService managerService;
 
+	@MockitoBean
+	private UserImportService userImportService;
+
+	@MockitoBean
+	private UserExportService userExportService;
+
+	@MockitoBean
+	private ExportTimeoutInterceptor exportTimeoutInterceptor;
+
 	@Nested
 	@DisplayName("전체 사용자 목록 조회 API [/manager/customer] 테스트")
 	class GetAllCustomerTest {
@@ -140,6 +153,56 @@ class ManagerControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("여러 유저 정보 일괄 조회 API [/manager/customer/details] 테스트")
+	class GetUsersDetailsTest {
+
+		@Test
+		@DisplayName("성공: 여러 사용자 ID의 상세 정보를 한 번에 조회한다.")
+		void getUsersDetails_Success() throws Exception {
+			// given
+			List<GetCustomerDetailResponse> mockResponse = List.of(
+				GetCustomerDetailResponse.builder().userId(2L).name("김테스트").address(Collections.emptyList()).build(),
+				GetCustomerDetailResponse.builder().userId(1L).name("이테스트").address(Collections.emptyList()).build()
+			);
+			given(managerService.getCustomerDetails(eq(List.of(2L, 1L)), any())).willReturn(mockResponse);
+
+			// when
+			ResultActions resultActions = mockMvc.perform(get("/user/manager/customer/details")
+				.param("userIds", "2", "1")
+				.with(csrf()));
+
+			// then
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.isSuccess").value(true))
+				.andExpect(jsonPath("$.code").value(ManagerSuccessStatus.MANAGER_GET_CUSTOMER_DETAILS_OK.getCode()))
+				.andExpect(jsonPath("$.result[0].userId").value(2L))
+				.andExpect(jsonPath("$.result[1].userId").value(1L))
+				.andDo(print());
+		}
+
+		@Test
+		@DisplayName("실패: MANAGER, MASTER 가 아닌 사용자가 조회하면 403 Forbidden을 반환한다.")
+		void getUsersDetails_Fail_Forbidden() throws Exception {
+			// given
+			given(managerService.getCustomerDetails(any(), any()))
+				.willThrow(new GeneralException(ErrorStatus._FORBIDDEN));
+
+			// when
+			ResultActions resultActions = mockMvc.perform(get("/user/manager/customer/details")
+				.param("userIds", "2", "1")
+				.with(csrf()));
+
+			// then
+			resultActions
+				.andExpect(status().isForbidden())
+				.andExpect(jsonPath("$.isSuccess").value(false))
+				.andExpect(jsonPath("$.code").value(ErrorStatus._FORBIDDEN.getCode()))
+				.andDo(print());
+		}
+	}
+
 	@Nested
 	@DisplayName("사용자 검색 API [/manager/customer/search] 테스트")
 	class SearchCustomerTest {
@@ -23,14 +23,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import app.domain.user.UserController;
 import app.domain.user.UserService;
 import app.domain.user.model.dto.request.CreateUserRequest;
+import app.domain.user.model.dto.response.CheckAvailabilityResponse;
 import app.domain.user.model.dto.response.CreateUserResponse;
 import app.domain.user.model.dto.response.GetUserInfoResponse;
 import app.domain.user.model.entity.enums.UserRole;
 import app.domain.user.status.UserErrorStatus;
 import app.domain.user.status.UserSuccessStatus;
-import app.global.apiPayload.code.status.ErrorStatus;
+import app.domain.user.uniqueness.AvailabilityRateLimiter;
+import app.domain.user.uniqueness.UniqueField;
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
 
-import app.global.apiPayload.exception.GeneralException;
+import app.commonUtil.apiPayload.exception.GeneralException;
 
 @WebMvcTest(UserController.class)
 @DisplayName("UserController 테스트")
@@ -45,6 +48,9 @@ class UserControllerTest {
 	@MockitoBean
 	private UserService userService;
 
+	@MockitoBean
+	private AvailabilityRateLimiter availabilityRateLimiter;
+
 	private CreateUserRequest createValidUserReq(UserRole role) {
 		CreateUserRequest req = new CreateUserRequest();
 		req.setUsername("testuser");
@@ -209,4 +215,51 @@ class UserControllerTest {
 		}
 	}
 
-}
\ No newline at end of file
+	@Nested
+	@DisplayName("사용 가능 여부 조회 API [/user/availability] 테스트")
+	@WithMockUser
+	class CheckAvailabilityTest {
+
+		@Test
+		@DisplayName("성공: 요청한 클라이언트 IP 로 호출 한도를 확인한 뒤 사용 가능 여부를 반환한다.")
+		void checkAvailability_Success() throws Exception {
+			// given
+			given(userService.checkAvailability(UniqueField.EMAIL, "test@example.com"))
+				.willReturn(CheckAvailabilityResponse.of(UniqueField.EMAIL, true));
+
+			// when
+			ResultActions resultActions = mockMvc.perform(get("/user/availability")
+				.param("field", "EMAIL")
+				.param("value", "test@example.com")
+				.with(request -> {
+					request.setRemoteAddr("203.0.113.7");
+					return request;
+				}));
+
+			// then
+			resultActions
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.result.available").value(true));
+			then(availabilityRateLimiter).should().acquire("203.0.113.7");
+		}
+
+		@Test
+		@DisplayName("실패: IP 별 호출 한도를 넘으면 조회하지 않고 429 Too Many Requests 를 반환한다.")
+		void checkAvailability_Fail_RateLimited() throws Exception {
+			// given
+			willThrow(new GeneralException(UserErrorStatus.AVAILABILITY_RATE_LIMITED))
+				.given(availabilityRateLimiter).acquire(anyString());
+
+			// when
+			ResultActions resultActions = mockMvc.perform(get("/user/availability")
+				.param("field", "EMAIL")
+				.param("value", "test@example.com"));
+
+			// then
+			resultActions
+				.andExpect(status().isTooManyRequests())
+				.andExpect(jsonPath("$.code").value(UserErrorStatus.AVAILABILITY_RATE_LIMITED.getCode()));
+			then(userService).should(never()).checkAvailability(any(), any());
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.user.status.UserErrorStatus;
+import app.domain.user.uniqueness.AvailabilityRateLimiter;
+
+@DisplayName("AvailabilityRateLimiter Test")
+public class AvailabilityRateLimiterTest {
+
+	private final AvailabilityRateLimiter limiter = new AvailabilityRateLimiter(2, Duration.ofMinutes(1), 100);
+
+	@Nested
+	@DisplayName("IP 별 호출 한도")
+	class AcquireTest {
+
+		@Test
+		@DisplayName("실패: 같은 IP 가 기간 안에 한도를 넘으면 AVAILABILITY_RATE_LIMITED")
+		void acquire_overLimit_rejected() {
+			limiter.acquire("203.0.113.7");
+			limiter.acquire("203.0.113.7");
+
+			assertThatThrownBy(() -> limiter.acquire("203.0.113.7"))
+				.isInstanceOf(GeneralException.class)
+				.extracting("errorReasonHttpStatus.code")
+				.isEqualTo(UserErrorStatus.AVAILABILITY_RATE_LIMITED.getCode());
+		}
+
+		@Test
+		@DisplayName("성공: 한도는 IP 마다 따로 센다")
+		void acquire_separatePerClient() {
+			limiter.acquire("203.0.113.7");
+			limiter.acquire("203.0.113.7");
+
+			assertThatCode(() -> limiter.acquire("198.51.100.1")).doesNotThrowAnyException();
+		}
+	}
+}
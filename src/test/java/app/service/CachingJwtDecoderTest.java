@@ -0,0 +1,126 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import app.commonUtil.security.TokenPrincipalParser;
+import app.global.security.AuthenticatedUser;
+import app.global.security.CachingJwtDecoder;
+import app.global.security.VerifiedJwt;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingJwtDecoder Test")
+public class CachingJwtDecoderTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Mock
+	private JwtDecoder delegate;
+
+	private CachingJwtDecoder decoder;
+
+	@BeforeEach
+	void setUp() {
+		decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(10), Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	private static Jwt jwt(String token, String userId, Instant expiresAt) {
+		return Jwt.withTokenValue(token)
+			.header("alg", "RS256")
+			.subject("user")
+			.claim("user_id", userId)
+			.issuedAt(NOW.minusSeconds(60))
+			.expiresAt(expiresAt)
+			.build();
+	}
+
+	@Nested
+	@DisplayName("캐시")
+	class CacheTest {
+
+		@Test
+		@DisplayName("성공: 같은 토큰은 한 번만 검증하고 숫자 userId 를 가진 VerifiedJwt 를 돌려준다")
+		void decode_hit_skipsVerification() {
+			// given
+			given(delegate.decode("token")).willReturn(jwt("token", "42", NOW.plusSeconds(300)));
+
+			// when
+			Jwt first = decoder.decode("token");
+			Jwt second = decoder.decode("token");
+
+			// then
+			verify(delegate, times(1)).decode("token");
+			assertThat(second).isSameAs(first).isInstanceOf(VerifiedJwt.class);
+			assertThat(((VerifiedJwt)second).getUserId()).isEqualTo(42L);
+		}
+
+		@Test
+		@DisplayName("실패: 검증에 실패한 토큰은 기억하지 않고 매번 다시 검증한다")
+		void decode_invalid_notCached() {
+			// given
+			given(delegate.decode("bad")).willThrow(new BadJwtException("invalid signature"));
+
+			// when & then
+			assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+			assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+			verify(delegate, times(2)).decode("bad");
+		}
+
+		@Test
+		@DisplayName("성공: 이미 만료된 토큰은 캐시에 남지 않는다")
+		void decode_expired_notCached() {
+			// given
+			given(delegate.decode("token")).willReturn(jwt("token", "42", NOW));
+
+			// when
+			decoder.decode("token");
+			decoder.decode("token");
+
+			// then
+			verify(delegate, times(2)).decode("token");
+		}
+	}
+
+	@Nested
+	@DisplayName("userId 조회")
+	class UserIdTest {
+
+		@Test
+		@DisplayName("성공: VerifiedJwt 면 파서를 거치지 않고, 아니면 TokenPrincipalParser 로 읽는다")
+		void userId_fromVerifiedJwtOrParser() {
+			// given
+			given(delegate.decode("token")).willReturn(jwt("token", "42", NOW.plusSeconds(300)));
+			Authentication verified = new JwtAuthenticationToken(decoder.decode("token"));
+			Authentication other = mock(Authentication.class);
+			TokenPrincipalParser parser = mock(TokenPrincipalParser.class);
+			given(parser.getUserId(other)).willReturn("7");
+
+			// when & then
+			assertThat(AuthenticatedUser.userId(verified, parser)).isEqualTo(42L);
+			assertThat(AuthenticatedUser.userId(other, parser)).isEqualTo(7L);
+			verify(parser, times(1)).getUserId(other);
+		}
+	}
+}
@@ -5,10 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,22 +20,32 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 
-import app.commonSecurity.TokenPrincipalParser;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.commonUtil.security.TokenPrincipalParser;
 import app.domain.customer.CustomerAddressService;
 import app.domain.customer.dto.request.AddCustomerAddressRequest;
 import app.domain.customer.dto.request.UpdateCustomerAddressRequest;
 import app.domain.customer.dto.response.GetCustomerAddressListResponse;
 import app.domain.customer.dto.response.UpdateCustomerAddressResponse;
 import app.domain.customer.status.CustomerErrorStatus;
+import app.domain.user.event.UserAddressChangedEvent;
 import app.domain.user.model.UserAddressRepository;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.UserAddress;
 import app.domain.user.status.UserErrorStatus;
-import app.global.apiPayload.exception.GeneralException;
+import app.global.cache.CacheNames;
+import app.commonUtil.apiPayload.exception.GeneralException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CustomerAddressService Test")
@@ -55,6 +66,12 @@ public class CustomerAddressServiceTest {
 	@Mock
 	private Authentication authentication;
 
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	private User testUser;
 
 	@BeforeEach
@@ -87,6 +104,40 @@ public class CustomerAddressServiceTest {
 			verify(userAddressRepository).findAllByUserUserId(testUser.getUserId());
 		}
 
+		@Test
+		@DisplayName("성공 - 캐시된 주소 목록이 있으면 DB 를 조회하지 않음")
+		void success_CacheHit_SkipsRepository() {
+			// given
+			ConcurrentMapCache cache = new ConcurrentMapCache(CacheNames.CUSTOMER_ADDRESSES);
+			cache.put(testUser.getUserId(), List.of(new GetCustomerAddressListResponse("집", "서울", "101호", true)));
+			when(cacheManager.getCache(CacheNames.CUSTOMER_ADDRESSES)).thenReturn(cache);
+
+			// when
+			List<GetCustomerAddressListResponse> result = customerAddressService.getCustomerAddresses(authentication);
+
+			// then
+			assertThat(result).extracting(GetCustomerAddressListResponse::getAlias).containsExactly("집");
+			verify(userAddressRepository, never()).findAllByUserUserId(any());
+		}
+
+		@Test
+		@DisplayName("성공 - 캐시에 없으면 DB 에서 읽어 캐시에 저장")
+		void success_CacheMiss_PopulatesCache() {
+			// given
+			ConcurrentMapCache cache = new ConcurrentMapCache(CacheNames.CUSTOMER_ADDRESSES);
+			when(cacheManager.getCache(CacheNames.CUSTOMER_ADDRESSES)).thenReturn(cache);
+			when(userAddressRepository.findAllByUserUserId(testUser.getUserId()))
+				.thenReturn(List.of(UserAddress.builder().alias("회사").build()));
+
+			// when
+			customerAddressService.getCustomerAddresses(authentication);
+			List<GetCustomerAddressListResponse> result = customerAddressService.getCustomerAddresses(authentication);
+
+			// then
+			assertThat(result).extracting(GetCustomerAddressListResponse::getAlias).containsExactly("회사");
+			verify(userAddressRepository, times(1)).findAllByUserUserId(testUser.getUserId());
+		}
+
 		@Test
 		@DisplayName("실패 - DB 조회 오류")
 		void failure_DbError_ThrowsException() {
@@ -100,6 +151,55 @@ public class CustomerAddressServiceTest {
 				.extracting("errorReasonHttpStatus.code")
 				.isEqualTo(CustomerErrorStatus.ADDRESS_READ_FAILED.getCode());
 		}
+
+		@Test
+		@DisplayName("실패 - 캐시를 채우는 중 DB 조회 오류가 나면 같은 오류 코드로 실패하고 캐시에 남기지 않음")
+		void failure_DbErrorWhileLoading_NotCached() {
+			// given
+			CaffeineCache cache = new CaffeineCache(CacheNames.CUSTOMER_ADDRESSES, Caffeine.newBuilder().build());
+			when(cacheManager.getCache(CacheNames.CUSTOMER_ADDRESSES)).thenReturn(cache);
+			when(userAddressRepository.findAllByUserUserId(testUser.getUserId()))
+				.thenThrow(new DataAccessResourceFailureException("DB error"));
+
+			// when & then
+			assertThatThrownBy(() -> customerAddressService.getCustomerAddresses(authentication))
+				.isInstanceOf(GeneralException.class)
+				.extracting("errorReasonHttpStatus.code")
+				.isEqualTo(CustomerErrorStatus.ADDRESS_READ_FAILED.getCode());
+			assertThat(cache.get(testUser.getUserId())).isNull();
+		}
+
+		@Test
+		@DisplayName("성공 - 조회 중에 커밋 후 비우기가 들어오면 조회가 끝난 뒤 비워 이전 목록이 남지 않음")
+		void success_EvictDuringLoad_DropsLoadedValue() throws Exception {
+			// given
+			CaffeineCache cache = new CaffeineCache(CacheNames.CUSTOMER_ADDRESSES, Caffeine.newBuilder().build());
+			when(cacheManager.getCache(CacheNames.CUSTOMER_ADDRESSES)).thenReturn(cache);
+			CountDownLatch loading = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			when(userAddressRepository.findAllByUserUserId(testUser.getUserId())).thenAnswer(invocation -> {
+				loading.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return List.of(UserAddress.builder().alias("이전 주소").build());
+			});
+
+			// when
+			Thread reader = new Thread(() -> customerAddressService.getCustomerAddresses(authentication));
+			reader.start();
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+			Thread evictor = new Thread(() -> cache.evict(testUser.getUserId()));
+			evictor.start();
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (evictor.getState() == Thread.State.RUNNABLE && System.nanoTime() < deadline) {
+				Thread.onSpinWait();
+			}
+			release.countDown();
+			reader.join(5_000);
+			evictor.join(5_000);
+
+			// then
+			assertThat(cache.get(testUser.getUserId())).isNull();
+		}
 	}
 
 	@Nested
@@ -111,17 +211,37 @@ public class CustomerAddressServiceTest {
 		void success_FirstAddressBecomesDefault() {
 			// given
 			AddCustomerAddressRequest request = new AddCustomerAddressRequest("집", "서울", "101호", false);
-			when(userAddressRepository.findAllByUserUserId(testUser.getUserId())).thenReturn(Collections.emptyList());
+			when(userAddressRepository.existsByUser_UserId(testUser.getUserId())).thenReturn(false);
 			ArgumentCaptor<UserAddress> captor = ArgumentCaptor.forClass(UserAddress.class);
 			UserAddress savedAddress = UserAddress.builder().addressId(UUID.randomUUID()).build();
-			when(userAddressRepository.save(any(UserAddress.class))).thenReturn(savedAddress);
+			when(userAddressRepository.saveAndFlush(any(UserAddress.class))).thenReturn(savedAddress);
 
 			// when
 			customerAddressService.addCustomerAddress(request, authentication);
 
 			// then
-			verify(userAddressRepository).save(captor.capture());
+			verify(userAddressRepository).saveAndFlush(captor.capture());
 			assertThat(captor.getValue().isDefault()).isTrue();
+			verify(userAddressRepository, never()).clearDefaultByUserId(any());
+		}
+
+		@Test
+		@DisplayName("성공 - 기본 주소로 추가하면 기존 기본 주소를 일괄 해제하고 회원은 조회하지 않음")
+		void success_DefaultAddress_ClearsPreviousDefaultInBulk() {
+			// given
+			AddCustomerAddressRequest request = new AddCustomerAddressRequest("회사", "서울", "202호", true);
+			when(userRepository.getReferenceById(testUser.getUserId())).thenReturn(testUser);
+			UserAddress savedAddress = UserAddress.builder().addressId(UUID.randomUUID()).build();
+			when(userAddressRepository.saveAndFlush(any(UserAddress.class))).thenReturn(savedAddress);
+
+			// when
+			customerAddressService.addCustomerAddress(request, authentication);
+
+			// then
+			verify(userAddressRepository).clearDefaultByUserId(testUser.getUserId());
+			verify(userAddressRepository, never()).existsByUser_UserId(any());
+			verify(userRepository, never()).findByUserId(any());
+			verify(eventPublisher).publishEvent(any(UserAddressChangedEvent.class));
 		}
 
 		@Test
@@ -129,14 +249,16 @@ public class CustomerAddressServiceTest {
 		void failure_AddressAlreadyExists_ThrowsException() {
 			// given
 			AddCustomerAddressRequest request = new AddCustomerAddressRequest("집", "서울", "101호", false);
-			when(userAddressRepository.existsByUserAndAddressAndAddressDetail(testUser, request.getAddress(), request.getAddressDetail()))
-				.thenReturn(true);
+			when(userAddressRepository.existsByUser_UserId(testUser.getUserId())).thenReturn(true);
+			when(userAddressRepository.saveAndFlush(any(UserAddress.class))).thenThrow(new DataIntegrityViolationException(
+				"duplicate", new ConstraintViolationException("duplicate", null, "uk_p_user_address_user_address")));
 
 			// when & then
 			assertThatThrownBy(() -> customerAddressService.addCustomerAddress(request, authentication))
 				.isInstanceOf(GeneralException.class)
 				.extracting("code")
 				.isEqualTo(CustomerErrorStatus.ADDRESS_ALREADY_EXISTS);
+			verify(eventPublisher, never()).publishEvent(any());
 		}
 	}
 
@@ -211,6 +333,7 @@ public class CustomerAddressServiceTest {
 
 			// then
 			verify(userAddressRepository).delete(addressToDelete);
+			verify(eventPublisher).publishEvent(any(UserAddressChangedEvent.class));
 			assertThat(result).isEqualTo("Address deleted successfully");
 		}
 
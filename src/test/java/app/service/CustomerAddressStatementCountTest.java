@@ -0,0 +1,116 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import app.commonUtil.security.TokenPrincipalParser;
+import app.domain.customer.CustomerAddressService;
+import app.domain.customer.dto.request.AddCustomerAddressRequest;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.UserAddress;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.config.JpaAuditingConfig;
+import app.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({CustomerAddressService.class, JpaAuditingConfig.class, QueryDslConfig.class})
+@DisplayName("CustomerAddressService 주소 추가 SQL 문장 수 Test")
+public class CustomerAddressStatementCountTest {
+
+	@Autowired
+	private CustomerAddressService customerAddressService;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockitoBean
+	private TokenPrincipalParser tokenPrincipalParser;
+
+	@MockitoBean
+	private CacheManager cacheManager;
+
+	@MockitoBean
+	private Authentication authentication;
+
+	private User user;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		user = testEntityManager.persistAndFlush(User.builder()
+			.username("tester")
+			.email("tester@example.com")
+			.password("password")
+			.nickname("tester")
+			.realName("홍길동")
+			.phoneNumber("010-0000-0000")
+			.birthdate(LocalDate.of(1990, 1, 1))
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		given(tokenPrincipalParser.getUserId(authentication)).willReturn(String.valueOf(user.getUserId()));
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("기본 주소 추가 - 기존 기본 주소 일괄 해제 UPDATE 와 INSERT 2문장")
+	void addDefaultAddress_shouldIssueTwoStatements() {
+		// given
+		persistAddress("집", true);
+		AddCustomerAddressRequest request = new AddCustomerAddressRequest("회사", "서울시 강남구", "202호", true);
+
+		// when
+		customerAddressService.addCustomerAddress(request, authentication);
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("일반 주소 추가 - 첫 주소 여부 확인 SELECT 와 INSERT 2문장")
+	void addAddress_shouldIssueTwoStatements() {
+		// given
+		persistAddress("집", true);
+		AddCustomerAddressRequest request = new AddCustomerAddressRequest("회사", "서울시 강남구", "202호", false);
+
+		// when
+		customerAddressService.addCustomerAddress(request, authentication);
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	private void persistAddress(String alias, boolean isDefault) {
+		testEntityManager.persistAndFlush(UserAddress.builder()
+			.user(user)
+			.alias(alias)
+			.address("서울시 마포구")
+			.addressDetail("101호")
+			.isDefault(isDefault)
+			.build());
+		testEntityManager.clear();
+		statistics.clear();
+	}
+}
@@ -0,0 +1,59 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import app.domain.manager.exporter.ExportTimeoutInterceptor;
+
+@DisplayName("ExportTimeoutInterceptor Test")
+public class ExportTimeoutInterceptorTest {
+
+	private static final String KEY = ExportTimeoutInterceptor.class.getName();
+
+	private final ExportTimeoutInterceptor interceptor = new ExportTimeoutInterceptor();
+
+	@Nested
+	@DisplayName("요청별 타임아웃")
+	class TimeoutTest {
+
+		@Test
+		@DisplayName("성공: 비동기 처리가 시작되기 직전에 그 요청의 타임아웃을 user.export.timeout 으로 바꾼다")
+		void beforeConcurrentHandling_setsTimeout() throws Exception {
+			// given
+			ReflectionTestUtils.setField(interceptor, "timeout", Duration.ofMinutes(30));
+			AsyncWebRequest asyncWebRequest = mock(AsyncWebRequest.class);
+
+			// when
+			interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+
+			// then
+			verify(asyncWebRequest).setTimeout(Duration.ofMinutes(30).toMillis());
+		}
+
+		@Test
+		@DisplayName("성공: 적용한 요청의 WebAsyncManager 에만 등록된다")
+		void applyTo_registersOnRequestOnly() {
+			// given
+			MockHttpServletRequest exportRequest = new MockHttpServletRequest();
+			MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+
+			// when
+			interceptor.applyTo(exportRequest);
+
+			// then
+			assertThat(WebAsyncUtils.getAsyncManager(exportRequest).getCallableInterceptor(KEY)).isSameAs(interceptor);
+			assertThat(WebAsyncUtils.getAsyncManager(otherRequest).getCallableInterceptor(KEY)).isNull();
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package app.service;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import app.domain.user.client.InternalAuthClient;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Auth 서비스와의 로그아웃 계약(POST /logout, 본문 없음)이 바뀌지 않았는지 확인한다.
+ */
+@DisplayName("InternalAuthClient Test")
+public class InternalAuthClientTest {
+
+	private MockRestServiceServer server;
+	private InternalAuthClient internalAuthClient;
+
+	@BeforeEach
+	void setUp() {
+		RestTemplate restTemplate = new RestTemplate();
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+		internalAuthClient = new InternalAuthClient(restTemplate, CircuitBreakerRegistry.ofDefaults(),
+			RetryRegistry.ofDefaults(), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(internalAuthClient, "authServiceUrl", "http://auth");
+	}
+
+	@Nested
+	@DisplayName("로그아웃")
+	class LogoutTest {
+
+		@Test
+		@DisplayName("성공: 기존 계약대로 본문 없이 POST /logout 을 호출한다")
+		void logout_postsWithoutBody() {
+			// given
+			server.expect(requestTo("http://auth/logout"))
+				.andExpect(method(HttpMethod.POST))
+				.andExpect(content().string(""))
+				.andRespond(withSuccess("{\"isSuccess\":true,\"code\":\"COMMON200\",\"message\":\"OK\"}",
+					MediaType.APPLICATION_JSON));
+
+			// when
+			internalAuthClient.logout();
+
+			// then
+			server.verify();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.user.internal.InternalUserService;
+import app.domain.user.model.UserNameView;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.dto.response.BatchUserResponse;
+import app.domain.user.model.dto.response.GetUserInfoResponse;
+import app.domain.user.model.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InternalUserService Test")
+public class InternalUserServiceTest {
+
+	@InjectMocks
+	private InternalUserService internalUserService;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Nested
+	@DisplayName("회원 일괄 조회 (batch)")
+	class Batch {
+
+		@Test
+		@DisplayName("성공 - 존재 여부를 한 번의 IN 조회로 요청 순서대로 반환")
+		void areUsersExists_shouldMapEveryId() {
+			// given
+			when(userRepository.findExistingUserIds(Set.of(3L, 1L, 2L))).thenReturn(List.of(1L, 3L));
+
+			// when
+			Map<Long, Boolean> result = internalUserService.areUsersExists(List.of(3L, 1L, 2L, 3L));
+
+			// then
+			assertThat(result).containsExactly(Map.entry(3L, true), Map.entry(1L, true), Map.entry(2L, false));
+			verify(userRepository, times(1)).findExistingUserIds(any());
+		}
+
+		@Test
+		@DisplayName("성공 - 없는 회원은 실패 대신 missing 으로 반환")
+		void getUserInfos_shouldReportMissingIds() {
+			// given
+			User user1 = User.builder().userId(1L).username("tester1").build();
+			User user3 = User.builder().userId(3L).username("tester3").build();
+			when(userRepository.findAllById(any())).thenReturn(List.of(user3, user1));
+
+			// when
+			BatchUserResponse<GetUserInfoResponse> result = internalUserService.getUserInfos(List.of(1L, 2L, 3L));
+
+			// then
+			assertThat(result.getFound()).containsOnlyKeys(1L, 3L);
+			assertThat(result.getFound().get(3L).getUsername()).isEqualTo("tester3");
+			assertThat(result.getMissing()).containsExactly(2L);
+			verify(userRepository, never()).findById(any());
+		}
+
+		@Test
+		@DisplayName("성공 - 이름은 엔티티 대신 user_id, username 프로젝션으로 조회")
+		void getUserNames_shouldUseProjection() {
+			// given
+			UserNameView name1 = mock(UserNameView.class);
+			given(name1.getUserId()).willReturn(1L);
+			given(name1.getUsername()).willReturn("tester1");
+			when(userRepository.findUsernamesByUserIds(Set.of(1L, 2L))).thenReturn(List.of(name1));
+
+			// when
+			BatchUserResponse<String> result = internalUserService.getUserNames(List.of(1L, 2L));
+
+			// then
+			assertThat(result.getFound()).containsExactly(Map.entry(1L, "tester1"));
+			assertThat(result.getMissing()).containsExactly(2L);
+			verify(userRepository, never()).findAllById(any());
+		}
+
+		@Test
+		@DisplayName("실패 - 최대 조회 건수를 초과하면 예외 발생")
+		void getUserNames_tooManyIds_shouldThrow() {
+			// given
+			List<Long> userIds = LongStream.rangeClosed(1, 501).boxed().toList();
+
+			// when & then
+			assertThatThrownBy(() -> internalUserService.getUserNames(userIds))
+				.isInstanceOf(GeneralException.class);
+			verify(userRepository, never()).findUsernamesByUserIds(any());
+		}
+	}
+}
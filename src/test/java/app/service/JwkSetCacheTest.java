@@ -0,0 +1,161 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestOperations;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+
+import app.global.security.JwkSetCache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwkSetCache Test")
+public class JwkSetCacheTest {
+
+	private static final String URI = "http://auth/oauth/jwks";
+
+	@Mock
+	private RestOperations restOperations;
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+	private JwkSetCache jwkSetCache;
+
+	@BeforeEach
+	void setUp() {
+		jwkSetCache = new JwkSetCache(restOperations, URI, Duration.ofSeconds(30), clock);
+	}
+
+	private static String jwks(RSAKey... keys) {
+		return new JWKSet(Arrays.asList(keys)).toString();
+	}
+
+	private static RSAKey key(String kid) throws JOSEException {
+		return new RSAKeyGenerator(2048).keyID(kid).generate().toPublicJWK();
+	}
+
+	private static JWKSelector kid(String kid) {
+		return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+	}
+
+	@Nested
+	@DisplayName("갱신")
+	class RefreshTest {
+
+		@Test
+		@DisplayName("성공: 기동 시 받아 둔 키로 원격 호출 없이 찾고, 갱신이 실패하면 마지막 키를 계속 쓴다")
+		void refresh_failure_keepsLastGoodKeys() throws Exception {
+			// given
+			given(restOperations.getForObject(URI, String.class))
+				.willReturn(jwks(key("k1")))
+				.willThrow(new ResourceAccessException("Connection refused"));
+			jwkSetCache.afterSingletonsInstantiated();
+
+			// when
+			clock.advance(Duration.ofMinutes(5));
+			boolean refreshed = jwkSetCache.refresh();
+
+			// then
+			assertThat(refreshed).isFalse();
+			assertThat(jwkSetCache.get(kid("k1"), null)).hasSize(1);
+			assertThat(jwkSetCache.ageSeconds()).isEqualTo(300.0);
+			verify(restOperations, times(2)).getForObject(URI, String.class);
+		}
+
+		@Test
+		@DisplayName("성공: 모르는 kid 는 한 번 다시 받아 찾고, min-refresh-interval 안에서는 다시 받지 않는다")
+		void get_unknownKid_refreshesOnce() throws Exception {
+			// given
+			given(restOperations.getForObject(URI, String.class))
+				.willReturn(jwks(key("k1")))
+				.willReturn(jwks(key("k1"), key("k2")));
+			jwkSetCache.afterSingletonsInstantiated();
+			clock.advance(Duration.ofSeconds(31));
+
+			// when & then
+			assertThat(jwkSetCache.get(kid("k2"), null)).hasSize(1);
+			assertThat(jwkSetCache.get(kid("k3"), null)).isEmpty();
+			verify(restOperations, times(2)).getForObject(URI, String.class);
+		}
+
+		@Test
+		@DisplayName("실패: 한 번도 받지 못했으면 KeySourceException")
+		void get_neverFetched_throws() {
+			// given
+			given(restOperations.getForObject(URI, String.class))
+				.willThrow(new ResourceAccessException("Connection refused"));
+			jwkSetCache.afterSingletonsInstantiated();
+
+			// when & then
+			assertThatThrownBy(() -> jwkSetCache.get(kid("k1"), null)).isInstanceOf(KeySourceException.class);
+			assertThat(jwkSetCache.ageSeconds()).isNaN();
+		}
+
+		@Test
+		@DisplayName("성공: prefetch-on-startup=false 면 기동 시 받지 않고 첫 조회에서 받는다")
+		void afterSingletonsInstantiated_prefetchDisabled_fetchesOnFirstGet() throws Exception {
+			// given
+			jwkSetCache = new JwkSetCache(restOperations, URI, Duration.ofSeconds(30), clock, false);
+			jwkSetCache.afterSingletonsInstantiated();
+			verify(restOperations, never()).getForObject(URI, String.class);
+			given(restOperations.getForObject(URI, String.class)).willReturn(jwks(key("k1")));
+
+			// when & then
+			assertThat(jwkSetCache.get(kid("k1"), null)).hasSize(1);
+			verify(restOperations, times(1)).getForObject(URI, String.class);
+		}
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
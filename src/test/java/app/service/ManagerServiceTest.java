@@ -6,13 +6,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,34 +27,49 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import app.domain.customer.dto.response.GetCustomerAddressListResponse;
+import app.domain.manager.CustomerCountEstimator;
+import app.domain.manager.ManagerRoleChecker;
 import app.domain.manager.ManagerService;
 import app.domain.manager.dto.response.GetCustomerDetailResponse;
 import app.domain.manager.dto.response.GetCustomerListResponse;
-import app.domain.user.model.UserAddressRepository;
 import app.domain.user.model.UserQueryRepository;
-import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
-import app.domain.user.model.entity.UserAddress;
 import app.domain.user.model.entity.enums.UserRole;
-import app.global.apiPayload.PagedResponse;
-import app.global.apiPayload.code.status.ErrorStatus;
-import app.global.apiPayload.exception.GeneralException;
+import app.domain.user.search.UserSearchHits;
+import app.domain.user.search.UserSearchIndex;
+import app.commonUtil.apiPayload.PagedResponse;
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.manager.status.ManagerErrorStatus;
+import app.global.pagination.CursorDirection;
+import app.global.pagination.CursorPagedResponse;
+import app.global.pagination.SlicedResponse;
+import app.global.pagination.UserCursor;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ManagerService Test")
 public class ManagerServiceTest {
 
 	@Mock
-	private UserRepository userRepository;
+	private UserQueryRepository userQueryRepository;
 
 	@Mock
-	private UserQueryRepository userQueryRepository;
+	private UserSearchIndex userSearchIndex;
 
 	@Mock
-	private UserAddressRepository userAddressRepository;
+	private CustomerCountEstimator customerCountEstimator;
+
+	@Mock
+	private ManagerRoleChecker managerRoleChecker;
+
+	@Mock
+	private Authentication authentication;
 
 	@InjectMocks
 	private ManagerService managerService;
@@ -67,10 +84,10 @@ public class ManagerServiceTest {
 			// given
 			User user1 = User.builder().userId(1L).email("user1@example.com").username("테스트1").build();
 			User user2 = User.builder().userId(2L).email("user2@example.com").username("테스트2").build();
-			Page<User> page = new PageImpl<>(List.of(user1, user2));
+			Page<GetCustomerListResponse> page = new PageImpl<>(List.of(user1, user2)).map(GetCustomerListResponse::from);
 			Pageable pageable = PageRequest.of(0, 10);
 
-			when(userRepository.findAllByUserRole(UserRole.CUSTOMER, pageable)).thenReturn(page);
+			when(userQueryRepository.findCustomerList(UserRole.CUSTOMER, pageable)).thenReturn(page);
 
 			// when
 			PagedResponse<GetCustomerListResponse> result = managerService.getAllCustomer(pageable);
@@ -95,9 +112,10 @@ public class ManagerServiceTest {
 					.build())
 				.toList();
 			Pageable pageable = PageRequest.of(0, 10);
-			Page<User> page = new PageImpl<>(users.subList(0, 10), pageable, 15);
+			Page<GetCustomerListResponse> page = new PageImpl<>(users.subList(0, 10), pageable, 15)
+				.map(GetCustomerListResponse::from);
 
-			when(userRepository.findAllByUserRole(eq(UserRole.CUSTOMER), eq(pageable))).thenReturn(page);
+			when(userQueryRepository.findCustomerList(eq(UserRole.CUSTOMER), eq(pageable))).thenReturn(page);
 
 			// when
 			PagedResponse<GetCustomerListResponse> result = managerService.getAllCustomer(pageable);
@@ -117,9 +135,10 @@ public class ManagerServiceTest {
 			ReflectionTestUtils.setField(oldUser, "createdAt", LocalDateTime.now().minusDays(1));
 
 			Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
-			Page<User> page = new PageImpl<>(List.of(newUser, oldUser), pageable, 2);
+			Page<GetCustomerListResponse> page = new PageImpl<>(List.of(newUser, oldUser), pageable, 2)
+				.map(GetCustomerListResponse::from);
 
-			when(userRepository.findAllByUserRole(eq(UserRole.CUSTOMER), eq(pageable))).thenReturn(page);
+			when(userQueryRepository.findCustomerList(eq(UserRole.CUSTOMER), eq(pageable))).thenReturn(page);
 
 			// when
 			PagedResponse<GetCustomerListResponse> result = managerService.getAllCustomer(pageable);
@@ -127,31 +146,73 @@ public class ManagerServiceTest {
 			// then
 			assertThat(result.getContent().get(0).getEmail()).isEqualTo("test1@example.com");
 		}
+
+		@Test
+		@DisplayName("성공 - ESTIMATED 모드는 count 쿼리 대신 캐시된 전체 건수를 사용")
+		void getAllCustomerEstimated_shouldUseCachedCount() {
+			// given
+			Pageable pageable = PageRequest.of(0, 10);
+			User user1 = User.builder().userId(1L).email("user1@example.com").username("테스트1").build();
+
+			when(userQueryRepository.findCustomerListSlice(UserRole.CUSTOMER, pageable))
+				.thenReturn(new SliceImpl<>(List.of(GetCustomerListResponse.from(user1)), pageable, true));
+			when(customerCountEstimator.countCustomers()).thenReturn(1234L);
+
+			// when
+			PagedResponse<GetCustomerListResponse> result = managerService.getAllCustomerEstimated(pageable);
+
+			// then
+			assertThat(result.getContent()).hasSize(1);
+			assertThat(result.getTotalElements()).isEqualTo(1234L);
+			verify(userQueryRepository, times(0)).findCustomerList(any(), any());
+		}
+
+		@Test
+		@DisplayName("성공 - NONE 모드는 전체 건수 없이 다음 페이지 여부만 반환")
+		void getAllCustomerSlice_shouldReturnHasNextOnly() {
+			// given
+			Pageable pageable = PageRequest.of(0, 1);
+			User user1 = User.builder().userId(1L).email("user1@example.com").username("테스트1").build();
+
+			when(userQueryRepository.findCustomerListSlice(UserRole.CUSTOMER, pageable))
+				.thenReturn(new SliceImpl<>(List.of(GetCustomerListResponse.from(user1)), pageable, true));
+
+			// when
+			SlicedResponse<GetCustomerListResponse> result = managerService.getAllCustomerSlice(pageable);
+
+			// then
+			assertThat(result.getContent()).hasSize(1);
+			assertThat(result.isHasNext()).isTrue();
+			verify(customerCountEstimator, times(0)).countCustomers();
+		}
 	}
 
 	@Nested
 	@DisplayName("고객 상세 정보 조회 (getCustomerDetailById)")
 	class GetCustomerDetailById {
 
+		private GetCustomerDetailResponse detail(Long userId, List<GetCustomerAddressListResponse> addresses) {
+			return new GetCustomerDetailResponse(userId, "user" + userId + "@example.com", "user" + userId, "홍길동",
+				"nick" + userId, "010-0000-000" + userId, null, null, addresses);
+		}
+
 		@Test
-		@DisplayName("성공 - 고객 정보와 주소 목록 조회")
+		@DisplayName("성공 - 고객 정보와 주소 목록을 한 번의 조회로 반환")
 		void getCustomerDetail_shouldReturnCustomerAndAddressList() {
 			// given
-			User user = User.builder().userId(1L).realName("홍길동").email("test@example.com").build();
-			List<UserAddress> addresses = List.of(
-				UserAddress.builder().user(user).alias("집").address("서울시 마포구").addressDetail("101호").isDefault(true).build(),
-				UserAddress.builder().user(user).alias("회사").address("서울시 강남구").addressDetail("202호").isDefault(false).build()
+			List<GetCustomerAddressListResponse> addresses = List.of(
+				new GetCustomerAddressListResponse("집", "서울시 마포구", "101호", true),
+				new GetCustomerAddressListResponse("회사", "서울시 강남구", "202호", false)
 			);
-
-			when(userRepository.findById(user.getUserId())).thenReturn(Optional.of(user));
-			when(userAddressRepository.findAllByUserUserId(user.getUserId())).thenReturn(addresses);
+			when(userQueryRepository.findCustomerDetails(List.of(1L))).thenReturn(List.of(detail(1L, addresses)));
 
 			// when
-			GetCustomerDetailResponse result = managerService.getCustomerDetailById(user.getUserId());
+			GetCustomerDetailResponse result = managerService.getCustomerDetailById(1L);
 
 			// then
 			assertThat(result.getName()).isEqualTo("홍길동");
 			assertThat(result.getAddress()).hasSize(2);
+			verify(userQueryRepository, times(1)).findCustomerDetails(any());
 		}
 
 		@Test
@@ -159,10 +220,8 @@ public class ManagerServiceTest {
 		void getCustomerDetail_noAddresses_shouldReturnEmptyList() {
 			// given
 			Long userId = 1L;
-			User user = User.builder().userId(userId).realName("홍길동").email("hong@test.com").build();
-
-			when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-			when(userAddressRepository.findAllByUserUserId(userId)).thenReturn(Collections.emptyList());
+			when(userQueryRepository.findCustomerDetails(List.of(userId)))
+				.thenReturn(List.of(detail(userId, new ArrayList<>())));
 
 			// when
 			GetCustomerDetailResponse result = managerService.getCustomerDetailById(userId);
@@ -170,9 +229,7 @@ public class ManagerServiceTest {
 			// then
 			assertThat(result.getAddress()).isEmpty();
 			assertThat(result.getName()).isEqualTo("홍길동");
-			assertThat(result.getEmail()).isEqualTo("hong@test.com");
-			verify(userRepository, times(1)).findById(userId);
-			verify(userAddressRepository, times(1)).findAllByUserUserId(userId);
+			assertThat(result.getEmail()).isEqualTo("user1@example.com");
 		}
 
 		@Test
@@ -180,7 +237,7 @@ public class ManagerServiceTest {
 		void getUserDetail_userNotFound_shouldThrowException() {
 			// given
 			Long invalidUserId = 999L;
-			when(userRepository.findById(invalidUserId)).thenReturn(Optional.empty());
+			when(userQueryRepository.findCustomerDetails(List.of(invalidUserId))).thenReturn(List.of());
 
 			// when
 			GeneralException ex = catchThrowableOfType(
@@ -191,6 +248,54 @@ public class ManagerServiceTest {
 			// then
 			assertThat(ex.getErrorReasonHttpStatus().getCode()).isEqualTo(ErrorStatus.USER_NOT_FOUND.getCode());
 		}
+
+		@Test
+		@DisplayName("성공 - 여러 고객 상세를 요청 순서대로 반환하고 없는 고객은 제외")
+		void getCustomerDetails_shouldKeepRequestOrder() {
+			// given
+			when(userQueryRepository.findCustomerDetails(List.of(3L, 1L, 2L)))
+				.thenReturn(List.of(detail(1L, List.of()), detail(3L, List.of())));
+
+			// when
+			List<GetCustomerDetailResponse> result = managerService.getCustomerDetails(List.of(3L, 1L, 2L, 3L), authentication);
+
+			// then
+			assertThat(result).extracting(GetCustomerDetailResponse::getUserId).containsExactly(3L, 1L);
+		}
+
+		@Test
+		@DisplayName("실패 - 한 번에 조회할 수 있는 고객 수를 초과")
+		void getCustomerDetails_tooManyIds_shouldThrowException() {
+			// given
+			List<Long> userIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+			// when
+			GeneralException ex = catchThrowableOfType(
+				() -> managerService.getCustomerDetails(userIds, authentication),
+				GeneralException.class
+			);
+
+			// then
+			assertThat(ex.getErrorReasonHttpStatus().getCode()).isEqualTo(ManagerErrorStatus.TOO_MANY_USER_IDS.getCode());
+			verify(userQueryRepository, times(0)).findCustomerDetails(any());
+		}
+
+		@Test
+		@DisplayName("실패 - MANAGER, MASTER 가 아니면 조회하지 않고 _FORBIDDEN")
+		void getCustomerDetails_notManager_shouldThrowForbidden() {
+			// given
+			doThrow(new GeneralException(ErrorStatus._FORBIDDEN)).when(managerRoleChecker).check(authentication);
+
+			// when
+			GeneralException ex = catchThrowableOfType(
+				() -> managerService.getCustomerDetails(List.of(1L, 2L), authentication),
+				GeneralException.class
+			);
+
+			// then
+			assertThat(ex.getErrorReasonHttpStatus().getCode()).isEqualTo(ErrorStatus._FORBIDDEN.getCode());
+			verify(userQueryRepository, times(0)).findCustomerDetails(any());
+		}
 	}
 
 	@Nested
@@ -204,9 +309,9 @@ public class ManagerServiceTest {
 			String keyword = "test";
 			Pageable pageable = PageRequest.of(0, 10);
 			User user1 = User.builder().userId(1L).username("testUser1").email("test1@mail.com").build();
-			Page<User> page = new PageImpl<>(List.of(user1), pageable, 1);
+			Page<GetCustomerListResponse> page = new PageImpl<>(List.of(GetCustomerListResponse.from(user1)), pageable, 1);
 
-			when(userQueryRepository.searchUser(eq(keyword), any(Pageable.class))).thenReturn(page);
+			when(userQueryRepository.searchCustomerList(eq(keyword), any(Pageable.class))).thenReturn(page);
 
 			// when
 			PagedResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, pageable);
@@ -222,9 +327,9 @@ public class ManagerServiceTest {
 			// given
 			String keyword = "unknown";
 			Pageable pageable = PageRequest.of(0, 10);
-			Page<User> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+			Page<GetCustomerListResponse> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-			when(userQueryRepository.searchUser(eq(keyword), any(Pageable.class))).thenReturn(emptyPage);
+			when(userQueryRepository.searchCustomerList(eq(keyword), any(Pageable.class))).thenReturn(emptyPage);
 
 			// when
 			PagedResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, pageable);
@@ -233,5 +338,146 @@ public class ManagerServiceTest {
 			assertThat(result.getContent()).isEmpty();
 			assertThat(result.getTotalElements()).isZero();
 		}
+
+		@Test
+		@DisplayName("성공 - 검색 색인이 준비되면 색인 결과 순서대로 해당 페이지만 DB 에서 조회")
+		void searchCustomer_indexReady_shouldHydrateInIndexOrder() {
+			// given
+			String keyword = "test";
+			Pageable pageable = PageRequest.of(0, 10);
+			User user1 = User.builder().userId(1L).username("testUser1").email("test1@mail.com").build();
+			User user2 = User.builder().userId(2L).username("testUser2").email("test2@mail.com").build();
+
+			when(userSearchIndex.isReady()).thenReturn(true);
+			when(userSearchIndex.search(keyword, 0L, 10)).thenReturn(new UserSearchHits(List.of(2L, 1L), 42));
+			when(userQueryRepository.findCustomerListByIds(List.of(2L, 1L)))
+				.thenReturn(List.of(GetCustomerListResponse.from(user1), GetCustomerListResponse.from(user2)));
+
+			// when
+			PagedResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, pageable);
+
+			// then
+			assertThat(result.getContent()).extracting(GetCustomerListResponse::getId).containsExactly(2L, 1L);
+			assertThat(result.getTotalElements()).isEqualTo(42);
+			verify(userQueryRepository, times(0)).searchCustomerList(any(), any());
+		}
+
+		@Test
+		@DisplayName("성공 - 색인에만 남은 탈퇴 회원 id 는 빼고 그만큼 색인에서 더 받아 페이지를 채우며 총 개수에서도 뺀다")
+		void searchCustomer_staleIndexId_fillsPage() {
+			// given
+			String keyword = "test";
+			Pageable pageable = PageRequest.of(0, 3);
+			LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+			when(userSearchIndex.isReady()).thenReturn(true);
+			when(userSearchIndex.search(keyword, 0L, 3)).thenReturn(new UserSearchHits(List.of(4L, 3L, 2L), 10));
+			when(userSearchIndex.search(keyword, 0L, 4)).thenReturn(new UserSearchHits(List.of(4L, 3L, 2L, 1L), 10));
+			when(userQueryRepository.findCustomerListByIds(List.of(4L, 3L, 2L)))
+				.thenReturn(List.of(customer(4L, now), customer(2L, now)));
+			when(userQueryRepository.findCustomerListByIds(List.of(4L, 3L, 2L, 1L)))
+				.thenReturn(List.of(customer(4L, now), customer(2L, now), customer(1L, now)));
+
+			// when
+			PagedResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, pageable);
+
+			// then
+			assertThat(result.getContent()).extracting(GetCustomerListResponse::getId).containsExactly(4L, 2L, 1L);
+			assertThat(result.getTotalElements()).isEqualTo(9);
+		}
+
+		@Test
+		@DisplayName("성공 - 커서 검색에서 색인에만 남은 id 가 있어도 size + 1 개를 채워 hasNext 를 판단한다")
+		void searchCustomerByCursor_staleIndexId_keepsHasNext() {
+			// given
+			String keyword = "test";
+			LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+			when(userSearchIndex.isReady()).thenReturn(true);
+			when(userSearchIndex.searchByCursor(keyword, null, CursorDirection.NEXT, 3)).thenReturn(List.of(5L, 4L, 3L));
+			when(userSearchIndex.searchByCursor(keyword, null, CursorDirection.NEXT, 4))
+				.thenReturn(List.of(5L, 4L, 3L, 2L));
+			when(userQueryRepository.findCustomerListByIds(List.of(5L, 4L, 3L)))
+				.thenReturn(List.of(customer(5L, now), customer(3L, now.minusMinutes(2))));
+			when(userQueryRepository.findCustomerListByIds(List.of(5L, 4L, 3L, 2L)))
+				.thenReturn(List.of(customer(5L, now), customer(3L, now.minusMinutes(2)), customer(2L, now.minusMinutes(3))));
+
+			// when
+			CursorPagedResponse<GetCustomerListResponse> result =
+				managerService.searchCustomerByCursor(keyword, "", CursorDirection.NEXT, 2);
+
+			// then
+			assertThat(result.getContent()).extracting(GetCustomerListResponse::getId).containsExactly(5L, 3L);
+			assertThat(result.isHasNext()).isTrue();
+			assertThat(UserCursor.decode(result.getNextCursor()).getUserId()).isEqualTo(3L);
+		}
+
+		private GetCustomerListResponse customer(long id, LocalDateTime createdAt) {
+			return new GetCustomerListResponse(id, "user" + id + "@example.com", "user" + id, createdAt);
+		}
+	}
+
+	@Nested
+	@DisplayName("고객 목록 커서 조회 (getAllCustomerByCursor)")
+	class GetAllCustomerByCursor {
+
+		private GetCustomerListResponse customer(long id, LocalDateTime createdAt) {
+			return new GetCustomerListResponse(id, "user" + id + "@example.com", "user" + id, createdAt);
+		}
+
+		@Test
+		@DisplayName("성공 - 첫 페이지는 size + 1 개를 조회해 다음 커서를 만든다")
+		void firstPage_shouldReturnNextCursor() {
+			// given
+			LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+			List<GetCustomerListResponse> rows = List.of(customer(3L, now), customer(2L, now.minusMinutes(1)), customer(1L, now.minusMinutes(2)));
+			when(userQueryRepository.findCustomerListByCursor(UserRole.CUSTOMER, null, CursorDirection.NEXT, 3))
+				.thenReturn(rows);
+
+			// when
+			CursorPagedResponse<GetCustomerListResponse> result =
+				managerService.getAllCustomerByCursor("", CursorDirection.NEXT, 2);
+
+			// then
+			assertThat(result.getContent()).extracting(GetCustomerListResponse::getId).containsExactly(3L, 2L);
+			assertThat(result.isHasNext()).isTrue();
+			assertThat(result.isHasPrev()).isFalse();
+			assertThat(UserCursor.decode(result.getNextCursor()).getUserId()).isEqualTo(2L);
+			assertThat(result.getPrevCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("성공 - 이전 페이지는 역순으로 조회한 결과를 뒤집어 반환한다")
+		void prevPage_shouldReverseRows() {
+			// given
+			LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+			String cursor = UserCursor.of(now.minusMinutes(3), 10L).encode();
+			List<GetCustomerListResponse> ascending = List.of(customer(11L, now.minusMinutes(2)), customer(12L, now.minusMinutes(1)));
+			when(userQueryRepository.findCustomerListByCursor(eq(UserRole.CUSTOMER), any(UserCursor.class),
+				eq(CursorDirection.PREV), eq(3))).thenReturn(ascending);
+
+			// when
+			CursorPagedResponse<GetCustomerListResponse> result =
+				managerService.getAllCustomerByCursor(cursor, CursorDirection.PREV, 2);
+
+			// then
+			assertThat(result.getContent()).extracting(GetCustomerListResponse::getId).containsExactly(12L, 11L);
+			assertThat(result.isHasPrev()).isFalse();
+			assertThat(result.isHasNext()).isTrue();
+			assertThat(UserCursor.decode(result.getNextCursor()).getUserId()).isEqualTo(11L);
+		}
+
+		@Test
+		@DisplayName("실패 - 형식이 올바르지 않은 커서")
+		void invalidCursor_shouldThrowException() {
+			// when
+			GeneralException ex = catchThrowableOfType(
+				() -> managerService.getAllCustomerByCursor("not-a-cursor", CursorDirection.NEXT, 20),
+				GeneralException.class
+			);
+
+			// then
+			assertThat(ex.getErrorReasonHttpStatus().getCode()).isEqualTo(ManagerErrorStatus.INVALID_CURSOR.getCode());
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import app.domain.user.client.InternalAuthClient;
+import app.domain.user.outbox.OutboxDispatcher;
+import app.domain.user.outbox.OutboxEvent;
+import app.domain.user.outbox.OutboxEventRepository;
+import app.domain.user.outbox.OutboxStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher Test")
+public class OutboxDispatcherTest {
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+	@Mock
+	private InternalAuthClient internalAuthClient;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private OutboxDispatcher outboxDispatcher;
+
+	/** 트랜잭션 콜백이 실행 중인지. 외부 호출이 트랜잭션 밖에서 일어나는지 확인하는 데 쓴다. */
+	private boolean inTransaction;
+	private final List<Boolean> callsInTransaction = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		outboxDispatcher = new OutboxDispatcher(outboxEventRepository, internalAuthClient, transactionTemplate);
+		ReflectionTestUtils.setField(outboxDispatcher, "batchSize", 50);
+		ReflectionTestUtils.setField(outboxDispatcher, "maxAttempts", 10);
+		ReflectionTestUtils.setField(outboxDispatcher, "initialBackoff", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(outboxDispatcher, "maxBackoff", Duration.ofMinutes(10));
+		ReflectionTestUtils.setField(outboxDispatcher, "lease", Duration.ofMinutes(5));
+
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			inTransaction = true;
+			try {
+				return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+			} finally {
+				inTransaction = false;
+			}
+		});
+		lenient().doAnswer(invocation -> {
+			inTransaction = true;
+			try {
+				invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			} finally {
+				inTransaction = false;
+			}
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Nested
+	@DisplayName("전달")
+	class DispatchTest {
+
+		@Test
+		@DisplayName("성공: 행을 임대한 트랜잭션이 끝난 뒤 로그아웃을 호출하고 SENT 로 기록한다")
+		void dispatch_callsAuthOutsideTransaction() {
+			// given
+			OutboxEvent event = OutboxEvent.authLogout(42L);
+			given(outboxEventRepository.lockDueEvents(any(LocalDateTime.class), anyInt())).willReturn(List.of(event));
+			given(internalAuthClient.logout()).willAnswer(invocation -> {
+				callsInTransaction.add(inTransaction);
+				return null;
+			});
+
+			// when
+			outboxDispatcher.dispatch();
+
+			// then
+			assertThat(callsInTransaction).containsExactly(false);
+			ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+			verify(outboxEventRepository).save(saved.capture());
+			assertThat(saved.getValue().getStatus()).isEqualTo(OutboxStatus.SENT);
+		}
+
+		@Test
+		@DisplayName("성공: 임대한 행은 다음 시도 시각이 임대 만료 시각으로 미뤄져 다른 인스턴스가 가져가지 않는다")
+		void dispatch_claimLeasesRow() {
+			// given
+			OutboxEvent event = OutboxEvent.authLogout(42L);
+			given(outboxEventRepository.lockDueEvents(any(LocalDateTime.class), anyInt())).willReturn(List.of(event));
+			List<LocalDateTime> nextAttemptAtDuringCall = new ArrayList<>();
+			given(internalAuthClient.logout()).willAnswer(invocation -> {
+				nextAttemptAtDuringCall.add(event.getNextAttemptAt());
+				return null;
+			});
+
+			// when
+			outboxDispatcher.dispatch();
+
+			// then
+			assertThat(nextAttemptAtDuringCall).singleElement()
+				.satisfies(at -> assertThat(at).isAfter(LocalDateTime.now().plusMinutes(4)));
+		}
+
+		@Test
+		@DisplayName("실패: 호출이 실패하면 시도 횟수를 올리고 백오프 뒤로 다시 미뤄 PENDING 으로 남긴다")
+		void dispatch_failure_reschedules() {
+			// given
+			OutboxEvent event = OutboxEvent.authLogout(42L);
+			given(outboxEventRepository.lockDueEvents(any(LocalDateTime.class), anyInt())).willReturn(List.of(event));
+			given(internalAuthClient.logout()).willThrow(new ResourceAccessException("Read timed out"));
+
+			// when
+			outboxDispatcher.dispatch();
+
+			// then
+			verify(outboxEventRepository, times(1)).save(event);
+			assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+			assertThat(event.getAttempts()).isEqualTo(1);
+			assertThat(event.getLastError()).isEqualTo("Read timed out");
+			assertThat(event.getNextAttemptAt()).isBefore(LocalDateTime.now().plusMinutes(1));
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.global.datasource.PrimaryReads;
+import app.global.datasource.ReadYourWritesTracker;
+import app.global.datasource.ReplicaRoutingDataSource;
+
+/**
+ * 인메모리 H2 두 개를 primary, replica 로 두고 각 DB 의 db_role 테이블 값으로 어느 쪽에서 읽었는지 확인한다.
+ */
+@DisplayName("ReplicaRoutingDataSource Test")
+public class ReplicaRoutingDataSourceTest {
+
+	private final AtomicReference<String> currentUser = new AtomicReference<>();
+	private final AtomicBoolean replicaDown = new AtomicBoolean();
+
+	private ReplicaRoutingDataSource routing;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate writeTransaction;
+	private TransactionTemplate readOnlyTransaction;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = database("primary");
+		DataSource replica = new DelegatingDataSource(database("replica")) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				if (replicaDown.get()) {
+					throw new SQLException("Connection refused");
+				}
+				return super.getConnection();
+			}
+		};
+		routing = new ReplicaRoutingDataSource(primary, List.of(replica),
+			new ReadYourWritesTracker(Duration.ofMinutes(1), 100), currentUser::get);
+
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		writeTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	private static DataSource database(String role) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("CREATE TABLE db_role (name VARCHAR(20))");
+		jdbc.update("INSERT INTO db_role VALUES (?)", role);
+		return dataSource;
+	}
+
+	private String readOnlyRole() {
+		return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+	}
+
+	private String writeRole() {
+		return writeTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+	}
+
+	@Nested
+	@DisplayName("라우팅")
+	class RouteTest {
+
+		@Test
+		@DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary")
+		void route_byTransactionReadOnly() {
+			assertThat(readOnlyRole()).isEqualTo("replica");
+			assertThat(writeRole()).isEqualTo("primary");
+			assertThat(jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class)).isEqualTo("primary");
+		}
+
+		@Test
+		@DisplayName("쓰기 직후 같은 사용자의 읽기는 window 동안 primary, 다른 사용자는 replica")
+		void route_readYourWrites() {
+			currentUser.set("1");
+			writeRole();
+
+			assertThat(readOnlyRole()).isEqualTo("primary");
+
+			currentUser.set("2");
+			assertThat(readOnlyRole()).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("PrimaryReads 로 감싼 조회는 읽기 전용 트랜잭션이어도 primary, 감싼 범위를 벗어나면 다시 replica")
+		void route_primaryReads() {
+			assertThat(PrimaryReads.call(ReplicaRoutingDataSourceTest.this::readOnlyRole)).isEqualTo("primary");
+			assertThat(readOnlyRole()).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("사용자를 지정한 커넥션도 같은 규칙으로 라우팅한다")
+		void getConnection_withCredentials_routed() {
+			String readOnly = readOnlyTransaction.execute(status -> roleOf(connectAs("sa", "")));
+
+			assertThat(readOnly).isEqualTo("replica");
+			assertThat(roleOf(connectAs("sa", ""))).isEqualTo("primary");
+		}
+	}
+
+	private Connection connectAs(String username, String password) {
+		try {
+			return routing.getConnection(username, password);
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String roleOf(Connection connection) {
+		try (connection) {
+			return new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+				.queryForObject("SELECT name FROM db_role", String.class);
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Nested
+	@DisplayName("replica 장애")
+	class FallbackTest {
+
+		@Test
+		@DisplayName("replica 커넥션을 얻지 못하면 primary 로 읽고, 검사에서 복구되면 다시 replica 로 읽는다")
+		void route_fallbackAndRecover() {
+			replicaDown.set(true);
+
+			assertThat(readOnlyRole()).isEqualTo("primary");
+			assertThat(routing.healthyReplicaCount()).isZero();
+
+			replicaDown.set(false);
+			assertThat(readOnlyRole()).isEqualTo("primary");
+
+			routing.checkReplicas();
+			assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+			assertThat(readOnlyRole()).isEqualTo("replica");
+		}
+	}
+}
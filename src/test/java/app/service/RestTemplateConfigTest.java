@@ -0,0 +1,55 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.global.config.RestTemplateConfig;
+
+@DisplayName("RestTemplateConfig Test")
+public class RestTemplateConfigTest {
+
+	private static PoolingHttpClientConnectionManager connectionManager(String authServiceUrl) {
+		RestTemplateConfig config = new RestTemplateConfig();
+		ReflectionTestUtils.setField(config, "maxTotal", 200);
+		ReflectionTestUtils.setField(config, "maxPerRoute", 50);
+		ReflectionTestUtils.setField(config, "authMaxPerRoute", 20);
+		ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(config, "readTimeout", Duration.ofSeconds(3));
+		ReflectionTestUtils.setField(config, "timeToLive", Duration.ofMinutes(5));
+		ReflectionTestUtils.setField(config, "authServiceUrl", authServiceUrl);
+		return config.internalConnectionManager();
+	}
+
+	@Nested
+	@DisplayName("Auth 서비스 route 한도")
+	class AuthRouteTest {
+
+		@Test
+		@DisplayName("성공: URL 에 포트가 없으면 scheme 기본 포트의 route 에 한도를 건다")
+		void authMaxPerRoute_defaultPort() {
+			try (PoolingHttpClientConnectionManager http = connectionManager("http://auth-service/internal/auth");
+				PoolingHttpClientConnectionManager https = connectionManager("https://auth-service")) {
+				assertThat(http.getMaxPerRoute(new HttpRoute(new HttpHost("http", "auth-service", 80)))).isEqualTo(20);
+				assertThat(https.getMaxPerRoute(new HttpRoute(new HttpHost("https", "auth-service", 443)))).isEqualTo(20);
+			}
+		}
+
+		@Test
+		@DisplayName("성공: URL 에 포트가 있으면 그 포트의 route 에 한도를 걸고, 다른 route 는 기본 한도를 쓴다")
+		void authMaxPerRoute_explicitPort() {
+			try (PoolingHttpClientConnectionManager manager = connectionManager("http://localhost:8083")) {
+				assertThat(manager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 8083)))).isEqualTo(20);
+				assertThat(manager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "other-service", 80)))).isEqualTo(50);
+			}
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import app.global.sql.SqlStatementFilter;
+import app.global.sql.SqlStatementListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+@DisplayName("SqlStatementFilter Test")
+public class SqlStatementFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SqlStatementFilter filter = new SqlStatementFilter(meterRegistry, 20);
+	private final SqlStatementListener listener = new SqlStatementListener(Long.MAX_VALUE, 0.0);
+
+	private void executeStatements(int count) {
+		for (int i = 0; i < count; i++) {
+			ExecutionInfo executionInfo = new ExecutionInfo();
+			executionInfo.setElapsedTime(2);
+			listener.afterQuery(executionInfo, List.of(new QueryInfo("select 1")));
+		}
+	}
+
+	private void request(String pattern, int statements) throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+		HttpServlet servlet = new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse resp) {
+				req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+				executeStatements(statements);
+			}
+		};
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+	}
+
+	private DistributionSummary statements(String uri) {
+		return meterRegistry.get("user.sql.statements").tag("uri", uri).summary();
+	}
+
+	@Nested
+	@DisplayName("요청별 집계")
+	class CountTest {
+
+		@Test
+		@DisplayName("성공: 요청마다 0 부터 세어 엔드포인트별 문장 수와 DB 시간을 기록한다")
+		void countsPerRequestAndResets() throws Exception {
+			// when
+			request("/user/manager/customer", 3);
+			request("/user/manager/customer", 1);
+			request("/user/info", 2);
+
+			// then
+			DistributionSummary customer = statements("/user/manager/customer");
+			assertThat(customer.count()).isEqualTo(2);
+			assertThat(customer.totalAmount()).isEqualTo(4);
+			assertThat(customer.max()).isEqualTo(3);
+			assertThat(statements("/user/info").totalAmount()).isEqualTo(2);
+			assertThat(meterRegistry.get("user.sql.time").tag("uri", "/user/info").timer()
+				.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("성공: 요청 밖(스케줄러 등)에서 실행된 문장은 다음 요청에 섞이지 않는다")
+		void statementsOutsideRequest_notCounted() throws Exception {
+			// given
+			request("/user/info", 1);
+			executeStatements(5);
+
+			// when
+			request("/user/info", 1);
+
+			// then
+			assertThat(statements("/user/info").totalAmount()).isEqualTo(2);
+			assertThat(statements("/user/info").max()).isEqualTo(1);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import app.global.sql.SqlStatementListener;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+@DisplayName("SqlStatementListener Test")
+public class SqlStatementListenerTest {
+
+	private final Logger logger = (Logger)LoggerFactory.getLogger(SqlStatementListener.class);
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+	@BeforeEach
+	void setUp() {
+		appender.start();
+		logger.addAppender(appender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		logger.detachAppender(appender);
+	}
+
+	private static ExecutionInfo execution(long elapsedMillis) {
+		ExecutionInfo executionInfo = new ExecutionInfo();
+		executionInfo.setElapsedTime(elapsedMillis);
+		executionInfo.setSuccess(true);
+		return executionInfo;
+	}
+
+	private static QueryInfo query(String sql, String email) throws NoSuchMethodException {
+		QueryInfo queryInfo = new QueryInfo(sql);
+		queryInfo.getParametersList().add(List.of(
+			new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+				new Object[] {1, email}),
+			new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+				new Object[] {2, 42L}),
+			new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+				new Object[] {3, 12})));
+		return queryInfo;
+	}
+
+	@Nested
+	@DisplayName("로그 마스킹")
+	class MaskingTest {
+
+		@Test
+		@DisplayName("성공: 느린 문장은 바인드 값 대신 타입만, 문자열 리터럴은 '?' 로 가려 남긴다")
+		void slowQuery_masksParametersAndLiterals() throws Exception {
+			// given
+			SqlStatementListener listener = new SqlStatementListener(100, 0.0);
+			String sql = "select * from p_user where email = ? and user_id = ? and nickname = ? "
+				+ "and real_name = '홍길동' and memo = 'it''s 010-1234-5678'";
+
+			// when
+			listener.afterQuery(execution(150), List.of(query(sql, "hong@example.com")));
+
+			// then
+			assertThat(appender.list).singleElement().satisfies(event -> {
+				String message = event.getFormattedMessage();
+				assertThat(message)
+					.contains("email = ? and user_id = ? and nickname = ?")
+					.contains("real_name = '?' and memo = '?'")
+					.contains("params=[String, Long, null]")
+					.doesNotContain("hong@example.com", "42", "홍길동", "010-1234-5678");
+			});
+		}
+
+		@Test
+		@DisplayName("성공: 기준보다 빠르고 샘플링하지 않는 문장은 남기지 않는다")
+		void fastQuery_notLogged() throws Exception {
+			// given
+			SqlStatementListener listener = new SqlStatementListener(100, 0.0);
+
+			// when
+			listener.afterQuery(execution(5), List.of(query("select 1 where email = ?", "hong@example.com")));
+
+			// then
+			assertThat(appender.list).isEmpty();
+		}
+	}
+}
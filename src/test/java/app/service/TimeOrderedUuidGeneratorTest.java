@@ -0,0 +1,88 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import app.global.id.TimeOrderedUuidGenerator;
+
+@DisplayName("TimeOrderedUuidGenerator Test")
+public class TimeOrderedUuidGeneratorTest {
+
+	private static final int COUNT = 20_000;
+
+	private static long millisOf(UUID uuid) {
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+
+	private static List<UUID> generate(int count) {
+		List<UUID> ids = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ids.add(TimeOrderedUuidGenerator.next());
+		}
+		return ids;
+	}
+
+	@Nested
+	@DisplayName("정렬")
+	class OrderTest {
+
+		@Test
+		@DisplayName("성공: 같은 밀리초 안에서 만든 id 도 만든 순서대로 증가한다")
+		void next_monotonicWithinMillisecond() {
+			// when
+			List<UUID> ids = generate(COUNT);
+
+			// then
+			Map<Long, Long> perMillis = ids.stream()
+				.collect(Collectors.groupingBy(TimeOrderedUuidGeneratorTest::millisOf, Collectors.counting()));
+			assertThat(perMillis.values()).as("같은 밀리초에 여러 개가 만들어져야 카운터를 검증할 수 있다")
+				.anyMatch(count -> count > 1);
+			for (int i = 1; i < ids.size(); i++) {
+				assertThat(ids.get(i)).as("index=%d", i).isGreaterThan(ids.get(i - 1));
+			}
+			assertThat(ids.stream().map(UUID::toString)).isSortedAccordingTo(String::compareTo);
+		}
+
+		@Test
+		@DisplayName("성공: 상위 48비트는 생성 시각의 Unix epoch 밀리초다")
+		void next_timestampIsCurrentMillis() {
+			// when
+			long before = System.currentTimeMillis();
+			UUID id = TimeOrderedUuidGenerator.next();
+			long after = System.currentTimeMillis();
+
+			// then (카운터가 넘치면 다음 밀리초를 당겨 쓸 수 있어 1ms 여유를 둔다)
+			assertThat(millisOf(id)).isBetween(before, after + 1);
+		}
+	}
+
+	@Nested
+	@DisplayName("형식")
+	class FormatTest {
+
+		@Test
+		@DisplayName("성공: version 은 7, variant 는 RFC 9562(10xx)다")
+		void next_versionAndVariant() {
+			// when
+			List<UUID> ids = generate(1_000);
+
+			// then
+			assertThat(ids).allSatisfy(id -> {
+				assertThat(id.version()).isEqualTo(7);
+				assertThat(id.variant()).isEqualTo(2);
+				assertThat(id.toString().charAt(14)).isEqualTo('7');
+				assertThat(id.toString().charAt(19)).isIn('8', '9', 'a', 'b');
+			});
+			assertThat(ids).doesNotHaveDuplicates();
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package app.service;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.domain.user.cache.UserCacheInvalidator;
+import app.global.cache.CacheNames;
+
+/**
+ * LISTEN 커넥션을 목으로 두고 수신 스레드가 알림을 받아 캐시를 비우는지, 끊긴 뒤 다시 연결하는지 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheInvalidator Test")
+public class UserCacheInvalidatorTest {
+
+	private static final long WAIT_MS = 2000;
+
+	@Mock
+	private CacheManager cacheManager;
+	@Mock
+	private Cache cache;
+	@Mock
+	private DataSource dataSource;
+	@Mock
+	private DataSource listenerDataSource;
+	@Mock
+	private Connection connection;
+	@Mock
+	private PGConnection pgConnection;
+	@Mock
+	private Statement statement;
+
+	private UserCacheInvalidator invalidator;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		invalidator = new UserCacheInvalidator(cacheManager, dataSource, listenerDataSource);
+		ReflectionTestUtils.setField(invalidator, "enabled", true);
+		ReflectionTestUtils.setField(invalidator, "pollTimeoutMs", 10);
+		ReflectionTestUtils.setField(invalidator, "reconnectDelayMs", 10L);
+
+		for (String name : CacheNames.USER_SCOPED_CACHES) {
+			lenient().when(cacheManager.getCache(name)).thenReturn(cache);
+		}
+		lenient().when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+		lenient().when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+		lenient().when(connection.createStatement()).thenReturn(statement);
+	}
+
+	@AfterEach
+	void tearDown() {
+		invalidator.stop();
+	}
+
+	private static PGNotification notification(String payload) {
+		PGNotification notification = mock(PGNotification.class);
+		given(notification.getParameter()).willReturn(payload);
+		return notification;
+	}
+
+	/**
+	 * 알림이 없을 때의 getNotifications(timeout) 대기를 흉내 낸다.
+	 */
+	private static PGNotification[] idle() {
+		LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+		return null;
+	}
+
+	private void notifyOnce(String payload) throws SQLException {
+		PGNotification notification = notification(payload);
+		given(pgConnection.getNotifications(anyInt()))
+			.willReturn(new PGNotification[] {notification})
+			.willAnswer(invocation -> idle());
+	}
+
+	@Nested
+	@DisplayName("알림 수신")
+	class NotifyTest {
+
+		@Test
+		@DisplayName("성공: 다른 인스턴스가 보낸 NOTIFY 를 받으면 그 회원의 회원 단위 캐시를 모두 비운다")
+		void notify_evictsUserScopedCaches() throws SQLException {
+			// given
+			given(listenerDataSource.getConnection()).willReturn(connection);
+			notifyOnce("other-instance:42");
+
+			// when
+			invalidator.start();
+
+			// then
+			verify(statement, timeout(WAIT_MS)).execute("LISTEN user_cache_invalidation");
+			verify(cache, timeout(WAIT_MS).times(CacheNames.USER_SCOPED_CACHES.size())).evict(42L);
+			verify(cache, never()).clear();
+			verify(dataSource, never()).getConnection();
+		}
+
+		@Test
+		@DisplayName("성공: 이 인스턴스가 보낸 알림은 이미 비웠으므로 무시한다")
+		void notify_ownInstance_ignored() throws SQLException {
+			// given
+			given(listenerDataSource.getConnection()).willReturn(connection);
+			notifyOnce(ReflectionTestUtils.getField(invalidator, "instanceId") + ":42");
+
+			// when
+			invalidator.start();
+
+			// then
+			verify(pgConnection, timeout(WAIT_MS).atLeast(2)).getNotifications(anyInt());
+			verify(cache, after(100).never()).evict(42L);
+		}
+	}
+
+	@Nested
+	@DisplayName("재연결")
+	class ReconnectTest {
+
+		@Test
+		@DisplayName("성공: 수신 커넥션을 얻지 못하면 다시 연결하고, 그 사이 놓친 알림 대신 회원 단위 캐시 전체를 비운다")
+		void reconnect_clearsAllThenListens() throws SQLException {
+			// given
+			given(listenerDataSource.getConnection())
+				.willThrow(new SQLException("Connection refused"))
+				.willReturn(connection);
+			notifyOnce("other-instance:7");
+
+			// when
+			invalidator.start();
+
+			// then
+			verify(cache, timeout(WAIT_MS).times(CacheNames.USER_SCOPED_CACHES.size())).clear();
+			verify(cache, timeout(WAIT_MS).times(CacheNames.USER_SCOPED_CACHES.size())).evict(7L);
+		}
+
+		@Test
+		@DisplayName("성공: 수신 중 커넥션이 끊기면 새 커넥션으로 다시 LISTEN 한다")
+		void reconnect_afterBrokenConnection() throws SQLException {
+			// given
+			given(listenerDataSource.getConnection()).willReturn(connection);
+			given(pgConnection.getNotifications(anyInt()))
+				.willThrow(new SQLException("An I/O error occurred while sending to the backend."))
+				.willAnswer(invocation -> idle());
+
+			// when
+			invalidator.start();
+
+			// then
+			verify(statement, timeout(WAIT_MS).times(2)).execute(anyString());
+			verify(connection, timeout(WAIT_MS)).close();
+			verify(cache, timeout(WAIT_MS).times(CacheNames.USER_SCOPED_CACHES.size())).clear();
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.manager.ManagerRoleChecker;
+import app.domain.manager.dto.response.CustomerExportRow;
+import app.domain.manager.exporter.UserExportFormat;
+import app.domain.manager.exporter.UserExportService;
+import app.domain.user.model.UserQueryRepository;
+import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.model.entity.enums.UserSex;
+import app.global.config.JacksonConfig;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExportService Test")
+public class UserExportServiceTest {
+
+	@Mock
+	private UserQueryRepository userQueryRepository;
+	@Mock
+	private ManagerRoleChecker managerRoleChecker;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Mock
+	private Authentication authentication;
+
+	private UserExportService userExportService;
+
+	@BeforeEach
+	void setUp() {
+		userExportService = new UserExportService(userQueryRepository, managerRoleChecker,
+			new JacksonConfig().objectMapper(), transactionManager);
+		ReflectionTestUtils.setField(userExportService, "fetchSize", 2);
+	}
+
+	private static CustomerExportRow row(long userId, String realName) {
+		return new CustomerExportRow(userId, "user" + userId, "user" + userId + "@example.com", "nick" + userId,
+			realName, "0101234567" + userId, UserSex.MALE, LocalDate.of(1990, 1, 1), UserRole.CUSTOMER,
+			LocalDateTime.of(2024, 1, 1, 12, 0));
+	}
+
+	@Nested
+	@DisplayName("권한 확인")
+	class AuthorizationTest {
+
+		@Test
+		@DisplayName("실패: MANAGER, MASTER 가 아니면 응답을 쓰기 전에 _FORBIDDEN")
+		void exportCustomers_forbidden() {
+			// given
+			willThrow(new GeneralException(ErrorStatus._FORBIDDEN)).given(managerRoleChecker).check(authentication);
+
+			// when & then
+			assertThatThrownBy(() -> userExportService.exportCustomers(UserExportFormat.CSV, authentication))
+				.isInstanceOf(GeneralException.class)
+				.extracting("errorReasonHttpStatus.code")
+				.isEqualTo(ErrorStatus._FORBIDDEN.getCode());
+			verify(userQueryRepository, never()).streamCustomers(any(), anyInt());
+		}
+	}
+
+	@Nested
+	@DisplayName("내보내기 형식")
+	class FormatTest {
+
+		@Test
+		@DisplayName("성공: CSV 는 BOM, 헤더 다음 한 줄에 한 명씩 쓰고 쉼표가 든 값은 따옴표로 감싼다")
+		void exportCustomers_csv() throws IOException {
+			// given
+			given(userQueryRepository.streamCustomers(UserRole.CUSTOMER, 2))
+				.willReturn(Stream.of(row(1L, "홍길동"), row(2L, "김,철수")));
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+			// when
+			userExportService.exportCustomers(UserExportFormat.CSV, authentication).writeTo(out);
+
+			// then
+			assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+				+ "userId,username,email,nickname,realName,phoneNumber,usersex,birthdate,userRole,createdAt\n"
+				+ "1,user1,user1@example.com,nick1,홍길동,01012345671,MALE,1990-01-01,CUSTOMER,2024-01-01T12:00\n"
+				+ "2,user2,user2@example.com,nick2,\"김,철수\",01012345672,MALE,1990-01-01,CUSTOMER,2024-01-01T12:00\n");
+		}
+
+		@Test
+		@DisplayName("성공: CSV 는 =, +, -, @, 탭, CR 로 시작하는 값 앞에 ' 를 붙여 수식으로 실행되지 않게 한다")
+		void exportCustomers_csv_neutralizesFormulas() throws IOException {
+			// given
+			given(userQueryRepository.streamCustomers(UserRole.CUSTOMER, 2))
+				.willReturn(Stream.of(row(1L, "=cmd|' /C calc'!A0"), row(2L, "+1"), row(3L, "-2+3"),
+					row(4L, "@SUM(A1)"), row(5L, "\tcmd"), row(6L, "홍-길동")));
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+			// when
+			userExportService.exportCustomers(UserExportFormat.CSV, authentication).writeTo(out);
+
+			// then
+			String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+			assertThat(lines).extracting(line -> line.split(",")[4])
+				.containsExactly("realName", "'=cmd|' /C calc'!A0", "'+1", "'-2+3", "'@SUM(A1)", "'\tcmd", "홍-길동");
+		}
+
+		@Test
+		@DisplayName("성공: NDJSON 은 한 줄에 JSON 객체 하나씩 쓴다")
+		void exportCustomers_ndjson() throws IOException {
+			// given
+			given(userQueryRepository.streamCustomers(UserRole.CUSTOMER, 2))
+				.willReturn(Stream.of(row(1L, "홍길동"), row(2L, "김철수"), row(3L, "이영희")));
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+			// when
+			userExportService.exportCustomers(UserExportFormat.NDJSON, authentication).writeTo(out);
+
+			// then
+			String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+			assertThat(lines).hasSize(3);
+			assertThat(lines[0]).startsWith("{\"userId\":1,\"username\":\"user1\"");
+			assertThat(lines[2]).contains("\"realName\":\"이영희\"");
+		}
+	}
+
+	@Nested
+	@DisplayName("중단")
+	class CancelTest {
+
+		@Test
+		@DisplayName("성공: 클라이언트가 끊어 쓰기에 실패하면 IOException 을 던지고 커서 스트림을 닫는다")
+		void exportCustomers_clientAborted_closesCursor() {
+			// given
+			AtomicBoolean closed = new AtomicBoolean();
+			given(userQueryRepository.streamCustomers(UserRole.CUSTOMER, 2))
+				.willReturn(Stream.of(row(1L, "홍길동"), row(2L, "김철수"), row(3L, "이영희"))
+					.onClose(() -> closed.set(true)));
+			OutputStream aborted = new OutputStream() {
+				@Override
+				public void write(int b) throws IOException {
+					throw new IOException("Broken pipe");
+				}
+			};
+			StreamingResponseBody body = userExportService.exportCustomers(UserExportFormat.NDJSON, authentication);
+
+			// when & then
+			assertThatThrownBy(() -> body.writeTo(aborted)).isInstanceOf(IOException.class);
+			assertThat(closed).isTrue();
+		}
+	}
+}
@@ -0,0 +1,337 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.manager.ManagerRoleChecker;
+import app.domain.manager.dto.response.UserImportResponse;
+import app.domain.manager.importer.UserImportFormat;
+import app.domain.manager.importer.UserImportService;
+import app.domain.user.event.UserCreatedEvent;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.status.UserErrorStatus;
+import app.domain.user.uniqueness.UserUniqueValuesView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportService Test")
+public class UserImportServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private PasswordEncoder passwordEncoder;
+	@Mock
+	private ThreadPoolTaskExecutor hashExecutor;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private ManagerRoleChecker managerRoleChecker;
+	@Mock
+	private Authentication authentication;
+
+	private UserImportService userImportService;
+
+	@BeforeEach
+	void setUp() {
+		userImportService = new UserImportService(userRepository, entityManager, transactionTemplate, passwordEncoder,
+			hashExecutor, Validation.buildDefaultValidatorFactory().getValidator(),
+			new ObjectMapper().registerModule(new JavaTimeModule()), eventPublisher, managerRoleChecker);
+		ReflectionTestUtils.setField(userImportService, "chunkSize", 10);
+		ReflectionTestUtils.setField(userImportService, "maxReportedErrors", 10);
+
+		lenient().doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(hashExecutor).execute(any(Runnable.class));
+		lenient().doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		lenient().when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
+	}
+
+	private static InputStream body(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String ndjson(String username, String email, String nickname, String phoneNumber) {
+		return "{\"username\":\"" + username + "\",\"password\":\"password123\",\"email\":\"" + email
+			+ "\",\"nickname\":\"" + nickname + "\",\"realName\":\"홍길동\",\"phoneNumber\":\"" + phoneNumber
+			+ "\",\"userRole\":\"CUSTOMER\"}\n";
+	}
+
+	@Nested
+	@DisplayName("권한 확인")
+	class AuthorizationTest {
+
+		@Test
+		@DisplayName("실패: MANAGER, MASTER 가 아니면 입력을 읽지 않고 _FORBIDDEN")
+		void importUsers_customer_forbidden() {
+			// given
+			willThrow(new GeneralException(ErrorStatus._FORBIDDEN)).given(managerRoleChecker).check(authentication);
+
+			// when & then
+			assertThatThrownBy(() -> userImportService.importUsers(
+				body(ndjson("user1", "user1@example.com", "nick1", "01012345671")), UserImportFormat.NDJSON, authentication))
+				.isInstanceOf(GeneralException.class)
+				.extracting("errorReasonHttpStatus.code")
+				.isEqualTo(ErrorStatus._FORBIDDEN.getCode());
+			verify(entityManager, never()).persist(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("NDJSON 가져오기")
+	class NdjsonImportTest {
+
+		@Test
+		@DisplayName("성공: 유효한 행만 저장하고 형식 오류, 검증 실패, 중복 행은 줄 번호와 함께 보고")
+		void importUsers_reportsFailedRows() {
+			// given
+			UserUniqueValuesView existing = mock(UserUniqueValuesView.class);
+			given(existing.getUsername()).willReturn("taken");
+			given(existing.getEmail()).willReturn("taken@example.com");
+			given(existing.getNickname()).willReturn("taken");
+			given(existing.getPhoneNumber()).willReturn("01000000000");
+			given(userRepository.findUniqueValuesMatching(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+				.willReturn(List.of(existing));
+
+			String input = ndjson("user1", "user1@example.com", "nick1", "01012345671")
+				+ "{not json\n"
+				+ ndjson("user2", "not-an-email", "nick2", "01012345672")
+				+ ndjson("user1", "other@example.com", "nick3", "01012345673")
+				+ "\n"
+				+ ndjson("taken", "user5@example.com", "nick5", "01012345675")
+				+ ndjson("user6", "user6@example.com", "nick6", "01012345676");
+
+			// when
+			UserImportResponse response = userImportService.importUsers(body(input), UserImportFormat.NDJSON,
+				authentication);
+
+			// then
+			assertThat(response.getTotalRows()).isEqualTo(6);
+			assertThat(response.getImportedRows()).isEqualTo(2);
+			assertThat(response.getFailedRows()).isEqualTo(4);
+			assertThat(response.getErrors())
+				.extracting("line", "code")
+				.containsExactly(
+					tuple(2L, ErrorStatus._BAD_REQUEST.getCode()),
+					tuple(3L, ErrorStatus._BAD_REQUEST.getCode()),
+					tuple(4L, UserErrorStatus.USER_ALREADY_EXISTS.getCode()),
+					tuple(6L, UserErrorStatus.USER_ALREADY_EXISTS.getCode()));
+			verify(entityManager, times(2)).persist(any(User.class));
+			verify(eventPublisher, times(2)).publishEvent(any(UserCreatedEvent.class));
+		}
+
+		@Test
+		@DisplayName("성공: 보고 상한을 넘는 실패 행은 개수만 세고 errorsTruncated 로 표시")
+		void importUsers_truncatesErrors() {
+			// given
+			ReflectionTestUtils.setField(userImportService, "maxReportedErrors", 1);
+
+			// when
+			UserImportResponse response = userImportService.importUsers(body("{\n{\n{\n"), UserImportFormat.NDJSON,
+				authentication);
+
+			// then
+			assertThat(response.getFailedRows()).isEqualTo(3);
+			assertThat(response.getErrors()).hasSize(1);
+			assertThat(response.isErrorsTruncated()).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("DB 가 거부한 행")
+	class ConstraintViolationTest {
+
+		@Test
+		@DisplayName("성공: 조회 뒤 다른 경로로 같은 이메일이 가입돼 flush 가 실패하면 행 단위로 다시 넣고 충돌한 행만 실패로 보고")
+		void importUsers_duplicateEmailInChunk_fallsBackToRows() {
+			// given
+			given(userRepository.findUniqueValuesMatching(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+				.willReturn(List.of());
+			ConstraintViolationException duplicateEmail = new ConstraintViolationException(
+				"duplicate key value violates unique constraint", new SQLException("duplicate key", "23505"),
+				"p_user_email_key");
+			willThrow(duplicateEmail)
+				.willDoNothing()
+				.willThrow(duplicateEmail)
+				.given(entityManager).flush();
+			String input = ndjson("user1", "user1@example.com", "nick1", "01012345671")
+				+ ndjson("user2", "user2@example.com", "nick2", "01012345672");
+
+			// when
+			UserImportResponse response = userImportService.importUsers(body(input), UserImportFormat.NDJSON,
+				authentication);
+
+			// then
+			assertThat(response.getImportedRows()).isEqualTo(1);
+			assertThat(response.getErrors())
+				.extracting("line", "code")
+				.containsExactly(tuple(2L, UserErrorStatus.USER_ALREADY_EXISTS.getCode()));
+			verify(transactionTemplate, times(3)).executeWithoutResult(any());
+		}
+
+		@Test
+		@DisplayName("성공: 컬럼 길이를 넘는 아이디는 청크 중간에 있어도 검증에서 그 행만 실패하고 나머지는 저장")
+		void importUsers_tooLongUsernameInChunk_failsOnlyThatRow() {
+			// given
+			given(userRepository.findUniqueValuesMatching(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+				.willReturn(List.of());
+			String input = ndjson("user1", "user1@example.com", "nick1", "01012345671")
+				+ ndjson("u".repeat(51), "user2@example.com", "nick2", "01012345672")
+				+ ndjson("user3", "user3@example.com", "nick3", "01012345673");
+
+			// when
+			UserImportResponse response = userImportService.importUsers(body(input), UserImportFormat.NDJSON,
+				authentication);
+
+			// then
+			assertThat(response.getImportedRows()).isEqualTo(2);
+			assertThat(response.getErrors())
+				.extracting("line", "code")
+				.containsExactly(tuple(2L, ErrorStatus._BAD_REQUEST.getCode()));
+			verify(entityManager, times(2)).persist(any(User.class));
+			verify(transactionTemplate, times(1)).executeWithoutResult(any());
+		}
+
+		@Test
+		@DisplayName("성공: DB 가 청크 중간 행의 값을 거부하면(22001) 행 단위로 다시 넣고 그 행만 _BAD_REQUEST 로 보고")
+		void importUsers_dataErrorInChunk_reportsRow() {
+			// given
+			given(userRepository.findUniqueValuesMatching(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+				.willReturn(List.of());
+			DataException tooLong = new DataException("value too long for type character varying(50)",
+				new SQLException("value too long", "22001"));
+			willThrow(tooLong)
+				.willDoNothing()
+				.willThrow(tooLong)
+				.willDoNothing()
+				.given(entityManager).flush();
+			String input = ndjson("user1", "user1@example.com", "nick1", "01012345671")
+				+ ndjson("user2", "user2@example.com", "nick2", "01012345672")
+				+ ndjson("user3", "user3@example.com", "nick3", "01012345673");
+
+			// when
+			UserImportResponse response = userImportService.importUsers(body(input), UserImportFormat.NDJSON,
+				authentication);
+
+			// then
+			assertThat(response.getImportedRows()).isEqualTo(2);
+			assertThat(response.getErrors())
+				.extracting("line", "code")
+				.containsExactly(tuple(2L, ErrorStatus._BAD_REQUEST.getCode()));
+			verify(transactionTemplate, times(4)).executeWithoutResult(any());
+		}
+
+		@Test
+		@DisplayName("성공: NOT NULL 등 unique 가 아닌 제약 위반은 중복이 아닌 _BAD_REQUEST 로 보고")
+		void importUsers_notNullViolation_notReportedAsDuplicate() {
+			// given
+			given(userRepository.findUniqueValuesMatching(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+				.willReturn(List.of());
+			willThrow(new ConstraintViolationException("null value in column violates not-null constraint",
+				new SQLException("not null", "23502"), null))
+				.given(entityManager).flush();
+
+			// when
+			UserImportResponse response = userImportService.importUsers(
+				body(ndjson("user1", "user1@example.com", "nick1", "01012345671")), UserImportFormat.NDJSON,
+				authentication);
+
+			// then
+			assertThat(response.getImportedRows()).isZero();
+			assertThat(response.getErrors())
+				.extracting("line", "code")
+				.containsExactly(tuple(1L, ErrorStatus._BAD_REQUEST.getCode()));
+		}
+
+		@Test
+		@DisplayName("실패: unique 제약이 아닌 영속성 오류는 행 단위로 다시 시도하지 않고 그대로 던진다")
+		void importUsers_otherPersistenceError_propagates() {
+			// given
+			given(userRepository.findUniqueValuesMatching(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+				.willReturn(List.of());
+			willThrow(new PersistenceException("connection reset")).given(entityManager).flush();
+
+			// when & then
+			assertThatThrownBy(() -> userImportService.importUsers(
+				body(ndjson("user1", "user1@example.com", "nick1", "01012345671")), UserImportFormat.NDJSON,
+				authentication))
+				.isInstanceOf(PersistenceException.class);
+			verify(transactionTemplate, times(1)).executeWithoutResult(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("CSV 가져오기")
+	class CsvImportTest {
+
+		@Test
+		@DisplayName("성공: 헤더 순서대로 필드를 매핑하고 따옴표 안의 쉼표를 값으로 읽는다")
+		void importUsers_csv() {
+			// given
+			given(userRepository.findUniqueValuesMatching(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+				.willReturn(List.of());
+			String input = "username,password,email,nickname,realName,phoneNumber,userRole\n"
+				+ "user1,password123,user1@example.com,nick1,\"홍,길동\",01012345671,CUSTOMER\n";
+
+			// when
+			UserImportResponse response = userImportService.importUsers(body(input), UserImportFormat.CSV,
+				authentication);
+
+			// then
+			assertThat(response.getImportedRows()).isEqualTo(1);
+			assertThat(response.getErrors()).isEmpty();
+			verify(entityManager).persist(any(User.class));
+		}
+	}
+}
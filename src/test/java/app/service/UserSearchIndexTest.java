@@ -0,0 +1,203 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.domain.user.search.UserSearchDocument;
+import app.domain.user.search.UserSearchIndex;
+import app.global.pagination.CursorDirection;
+import app.global.pagination.UserCursor;
+
+/**
+ * 색인 검색 결과가 DB 검색 조건(realName / email / nickname 중 하나라도 lower(x) like '%kw%')과 같은지,
+ * 커서 정렬이 DB keyset 과 같은 (created_at, user_id) 내림차순인지 확인한다.
+ */
+@DisplayName("UserSearchIndex Test")
+public class UserSearchIndexTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+	private static final List<UserSearchDocument> DOCUMENTS = List.of(
+		document(1L, "홍길동", "Hong.GilDong@Example.com", "gildong", BASE),
+		document(2L, "김철수", "chulsoo@example.com", "철수짱", BASE.plusSeconds(1)),
+		document(3L, "이영희", "younghee@test.co.kr", "YH Lee", BASE.plusSeconds(1)),
+		document(4L, "박민수", "minsu.park@example.com", "민수", BASE.plusNanos(1_000)),
+		document(5L, "Kim Gil", "kimgil@EXAMPLE.com", "gil-kim", BASE.plusSeconds(2)),
+		document(6L, "최길순", "gilsoon@test.co.kr", null, BASE.plusSeconds(2)),
+		document(7L, "홍길동", "hong2@example.com", "hong", BASE.minusDays(1)));
+
+	private static final List<String> KEYWORDS = List.of(
+		"길", "홍길", "홍길동", "gil", "GIL", "gildong", "example", "EXAMPLE.COM", "@test", "e", "ex", "수",
+		"yh lee", "h l", "n.g", "co.kr", "없는키워드", "민수.");
+
+	private UserSearchIndex index;
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		index = open(tempDir.resolve("index").toString());
+		index.beginRebuild();
+		index.upsertAll(DOCUMENTS);
+		index.finishRebuild();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.invokeMethod(index, "close");
+	}
+
+	private static UserSearchIndex open(String indexDir) {
+		UserSearchIndex opened = new UserSearchIndex();
+		ReflectionTestUtils.setField(opened, "indexDir", indexDir);
+		ReflectionTestUtils.invokeMethod(opened, "open");
+		return opened;
+	}
+
+	private static UserSearchDocument document(Long userId, String realName, String email, String nickname,
+		LocalDateTime createdAt) {
+		return new UserSearchDocument(userId, realName, email, nickname, createdAt);
+	}
+
+	private static boolean dbMatches(UserSearchDocument document, String keyWord) {
+		String normalized = keyWord.toLowerCase(Locale.ROOT);
+		return contains(document.getRealName(), normalized)
+			|| contains(document.getEmail(), normalized)
+			|| contains(document.getNickname(), normalized);
+	}
+
+	private static boolean contains(String value, String keyWord) {
+		return value != null && value.toLowerCase(Locale.ROOT).contains(keyWord);
+	}
+
+	private static final Comparator<UserSearchDocument> NEWEST_FIRST = Comparator
+		.comparing(UserSearchDocument::getCreatedAt)
+		.thenComparing(UserSearchDocument::getUserId)
+		.reversed();
+
+	private static List<Long> expectedIds(String keyWord) {
+		return DOCUMENTS.stream()
+			.filter(document -> dbMatches(document, keyWord))
+			.sorted(NEWEST_FIRST)
+			.map(UserSearchDocument::getUserId)
+			.toList();
+	}
+
+	@Nested
+	@DisplayName("부분 일치")
+	class SubstringTest {
+
+		@Test
+		@DisplayName("성공: 키워드 길이와 대소문자에 관계없이 DB 의 대소문자 무시 부분 일치와 같은 결과를 같은 순서로 돌려준다")
+		void search_matchesDbSubstringSemantics() {
+			for (String keyWord : KEYWORDS) {
+				assertThat(index.search(keyWord, 0, 100).getUserIds())
+					.as("keyWord=%s", keyWord)
+					.isEqualTo(expectedIds(keyWord));
+				assertThat(index.search(keyWord, 0, 100).getTotalHits())
+					.as("keyWord=%s", keyWord)
+					.isEqualTo(expectedIds(keyWord).size());
+			}
+		}
+
+		@Test
+		@DisplayName("성공: 키워드가 비어 있으면 전체를 최신순으로 돌려준다")
+		void search_blankKeyword_all() {
+			assertThat(index.search("", 0, 100).getUserIds()).isEqualTo(DOCUMENTS.stream()
+				.sorted(NEWEST_FIRST).map(UserSearchDocument::getUserId).toList());
+		}
+	}
+
+	@Nested
+	@DisplayName("커서 정렬")
+	class CursorTest {
+
+		private final Map<Long, UserSearchDocument> byId = DOCUMENTS.stream()
+			.collect(Collectors.toMap(UserSearchDocument::getUserId, Function.identity()));
+
+		private UserCursor cursorOf(Long userId) {
+			return UserCursor.of(byId.get(userId).getCreatedAt(), userId);
+		}
+
+		@Test
+		@DisplayName("성공: NEXT 로 끝까지 넘기면 (created_at, user_id) 내림차순으로 빠짐없이, 중복 없이 나온다")
+		void searchByCursor_next_pagesInKeysetOrder() {
+			List<Long> paged = new ArrayList<>();
+			UserCursor cursor = null;
+			List<Long> page;
+			do {
+				page = index.searchByCursor(null, cursor, CursorDirection.NEXT, 2);
+				paged.addAll(page);
+				cursor = page.isEmpty() ? null : cursorOf(page.get(page.size() - 1));
+			} while (!page.isEmpty());
+
+			assertThat(paged).isEqualTo(expectedIds(""));
+		}
+
+		@Test
+		@DisplayName("성공: PREV 는 커서보다 최신인 문서를 오래된 순으로 돌려준다")
+		void searchByCursor_prev_oldestFirst() {
+			// 최신순: 6, 5, 3, 2, 4, 1, 7
+			List<Long> page = index.searchByCursor(null, cursorOf(4L), CursorDirection.PREV, 10);
+
+			assertThat(page).containsExactly(2L, 3L, 5L, 6L);
+		}
+
+		@Test
+		@DisplayName("성공: 키워드와 커서를 함께 쓰면 일치하는 문서만 커서 다음부터 나온다")
+		void searchByCursor_keyword() {
+			List<Long> page = index.searchByCursor("gil", cursorOf(5L), CursorDirection.NEXT, 10);
+
+			assertThat(page).isEqualTo(expectedIds("gil").subList(expectedIds("gil").indexOf(5L) + 1,
+				expectedIds("gil").size()));
+		}
+	}
+
+	@Nested
+	@DisplayName("색인 디렉터리")
+	class DirectoryTest {
+
+		@Test
+		@DisplayName("실패: 다른 인스턴스가 쓰고 있는 디렉터리를 지정하면 지우지 않고 기동에 실패한다")
+		void open_lockedDirectory_failsFast() {
+			assertThatThrownBy(() -> open(tempDir.resolve("index").toString()))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("다른 프로세스가 사용 중");
+			assertThat(index.search("홍길동", 0, 10).getUserIds()).containsExactly(1L, 7L);
+		}
+
+		@Test
+		@DisplayName("성공: 디렉터리를 지정하지 않으면 인스턴스마다 별도 임시 디렉터리를 쓴다")
+		void open_default_separateDirectories() {
+			UserSearchIndex first = open("");
+			UserSearchIndex second = open("");
+			try {
+				assertThat(ReflectionTestUtils.getField(first, "indexPath"))
+					.isNotEqualTo(ReflectionTestUtils.getField(second, "indexPath"));
+			} finally {
+				ReflectionTestUtils.invokeMethod(first, "close");
+				ReflectionTestUtils.invokeMethod(second, "close");
+			}
+		}
+	}
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,26 +19,33 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import app.commonSecurity.TokenPrincipalParser;
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.commonUtil.security.TokenPrincipalParser;
 import app.domain.user.UserService;
-import app.domain.user.client.InternalAuthClient;
+import app.domain.user.event.UserCreatedEvent;
+import app.domain.user.event.UserWithdrawnEvent;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.dto.request.CreateUserRequest;
+import app.domain.user.model.dto.response.CheckAvailabilityResponse;
 import app.domain.user.model.dto.response.CreateUserResponse;
 import app.domain.user.model.dto.response.GetUserInfoResponse;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
+import app.domain.user.outbox.OutboxEvent;
+import app.domain.user.outbox.OutboxEventRepository;
+import app.domain.user.outbox.OutboxEventType;
+import app.domain.user.outbox.OutboxStatus;
+import app.domain.user.password.PasswordHasher;
 import app.domain.user.status.UserErrorStatus;
-import app.global.apiPayload.ApiResponse;
-import app.global.apiPayload.code.status.ErrorStatus;
-import app.global.apiPayload.code.status.SuccessStatus;
-import app.global.apiPayload.exception.GeneralException;
-import org.springframework.web.client.HttpClientErrorException;
+import app.domain.user.uniqueness.UniqueField;
+import app.domain.user.uniqueness.UniqueFieldFilter;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserService Test")
@@ -45,17 +53,31 @@ public class UserServiceTest {
 	@Mock
 	private UserRepository userRepository;
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
 	@Mock
-	private InternalAuthClient internalAuthClient;
+	private OutboxEventRepository outboxEventRepository;
 	@Mock
 	private TokenPrincipalParser tokenPrincipalParser;
 	@Mock
 	private Authentication authentication;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private UniqueFieldFilter uniqueFieldFilter;
+	@Mock
+	private TransactionTemplate transactionTemplate;
 
 	@InjectMocks
 	private UserService userService;
 
+	@BeforeEach
+	void setUp() {
+		// 기본은 블룸 필터가 모든 값을 "있을 수도 있음" 으로 답해 DB 로 확인하는 경로
+		lenient().when(uniqueFieldFilter.mightContain(any(), any())).thenReturn(true);
+		lenient().when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
 	private CreateUserRequest createValidUserReq(UserRole role) {
 		CreateUserRequest req = new CreateUserRequest();
 		req.setUsername("testuser");
@@ -94,7 +116,7 @@ public class UserServiceTest {
 				.build();
 
 			givenNoDuplicatesFound(req);
-			given(passwordEncoder.encode(req.getPassword())).willReturn("encodedPassword");
+			given(passwordHasher.hash(req.getPassword())).willReturn("encodedPassword");
 			given(userRepository.save(any(User.class))).willReturn(user);
 
 			// when
@@ -111,6 +133,7 @@ public class UserServiceTest {
 			assertThat(capturedUser.getNickname()).isEqualTo(req.getNickname());
 			assertThat(capturedUser.getUserRole()).isEqualTo(UserRole.CUSTOMER);
 			assertThat(res.getUserId()).isEqualTo(1L);
+			verify(eventPublisher).publishEvent(any(UserCreatedEvent.class));
 		}
 
 		@Test
@@ -126,7 +149,7 @@ public class UserServiceTest {
 				.build();
 
 			givenNoDuplicatesFound(req);
-			given(passwordEncoder.encode(req.getPassword())).willReturn("encodedPassword");
+			given(passwordHasher.hash(req.getPassword())).willReturn("encodedPassword");
 			given(userRepository.save(any(User.class))).willReturn(user);
 
 			// when
@@ -140,6 +163,78 @@ public class UserServiceTest {
 			assertThat(capturedUser.getUserRole()).isEqualTo(UserRole.OWNER);
 			assertThat(res.getUserId()).isEqualTo(2L);
 		}
+
+		@Test
+		@DisplayName("블룸 필터가 모든 값이 없다고 답하면 중복 조회 없이 생성")
+		void createUser_bloomFilterMiss_SkipsDuplicateQuery() {
+			// given
+			CreateUserRequest req = createValidUserReq(UserRole.CUSTOMER);
+			User user = User.builder().userId(3L).username(req.getUsername()).userRole(req.getUserRole()).build();
+
+			given(uniqueFieldFilter.mightContain(any(), any())).willReturn(false);
+			given(passwordHasher.hash(req.getPassword())).willReturn("encodedPassword");
+			given(userRepository.save(any(User.class))).willReturn(user);
+
+			// when
+			CreateUserResponse res = userService.createUser(req);
+
+			// then
+			assertThat(res.getUserId()).isEqualTo(3L);
+			verify(userRepository, never()).findFirstByUniqueFields(any(), any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("블룸 필터가 닉네임만 있을 수도 있다고 답하면 닉네임만 DB 로 확인")
+		void createUser_bloomFilterPartialHit_QueriesOnlyPossibleFields() {
+			// given
+			CreateUserRequest req = createValidUserReq(UserRole.CUSTOMER);
+			User user = User.builder().userId(4L).username(req.getUsername()).userRole(req.getUserRole()).build();
+
+			given(uniqueFieldFilter.mightContain(any(), any())).willReturn(false);
+			given(uniqueFieldFilter.mightContain(UniqueField.NICKNAME, req.getNickname())).willReturn(true);
+			given(userRepository.findFirstByUniqueFields(null, null, req.getNickname(), null))
+				.willReturn(Optional.empty());
+			given(passwordHasher.hash(req.getPassword())).willReturn("encodedPassword");
+			given(userRepository.save(any(User.class))).willReturn(user);
+
+			// when
+			CreateUserResponse res = userService.createUser(req);
+
+			// then
+			assertThat(res.getUserId()).isEqualTo(4L);
+		}
+	}
+
+	@Nested
+	@DisplayName("사용 가능 여부 조회")
+	class CheckAvailability {
+
+		@Test
+		@DisplayName("블룸 필터에 없으면 DB 조회 없이 사용 가능")
+		void bloomFilterMiss_ReturnsAvailableWithoutQuery() {
+			// given
+			given(uniqueFieldFilter.mightContain(UniqueField.NICKNAME, "newnick")).willReturn(false);
+
+			// when
+			CheckAvailabilityResponse res = userService.checkAvailability(UniqueField.NICKNAME, "newnick");
+
+			// then
+			assertThat(res.isAvailable()).isTrue();
+			verify(userRepository, never()).existsByNickname(any());
+		}
+
+		@Test
+		@DisplayName("블룸 필터에 있을 수도 있으면 DB 로 확인")
+		void bloomFilterHit_ChecksDatabase() {
+			// given
+			given(userRepository.existsByEmail("test@example.com")).willReturn(true);
+
+			// when
+			CheckAvailabilityResponse res = userService.checkAvailability(UniqueField.EMAIL, "test@example.com");
+
+			// then
+			assertThat(res.isAvailable()).isFalse();
+		}
 	}
 
 	@Nested
@@ -270,7 +365,7 @@ public class UserServiceTest {
 			CreateUserRequest req = createValidUserReq(UserRole.CUSTOMER);
 
 			givenNoDuplicatesFound(req);
-			given(passwordEncoder.encode(req.getPassword())).willThrow(new RuntimeException("Encoding failed"));
+			given(passwordHasher.hash(req.getPassword())).willThrow(new RuntimeException("Encoding failed"));
 
 			// when & then
 			assertThatThrownBy(() -> userService.createUser(req))
@@ -279,6 +374,25 @@ public class UserServiceTest {
 
 			verify(userRepository, never()).save(any(User.class));
 		}
+
+		@Test
+		@DisplayName("해싱 대기열이 가득 차면 트랜잭션을 열지 않고 거절")
+		void hashQueueFull_RejectsBeforeTransaction() {
+			// given
+			CreateUserRequest req = createValidUserReq(UserRole.CUSTOMER);
+
+			givenNoDuplicatesFound(req);
+			given(passwordHasher.hash(req.getPassword()))
+				.willThrow(new GeneralException(UserErrorStatus.SIGNUP_BUSY));
+
+			// when & then
+			assertThatThrownBy(() -> userService.createUser(req))
+				.isInstanceOf(GeneralException.class)
+				.extracting("errorReasonHttpStatus.code")
+				.isEqualTo(UserErrorStatus.SIGNUP_BUSY.getCode());
+
+			verify(transactionTemplate, never()).execute(any());
+		}
 	}
 
 	@Nested
@@ -342,7 +456,6 @@ public class UserServiceTest {
 
 			given(tokenPrincipalParser.getUserId(authentication)).willReturn(String.valueOf(userId));
 			given(userRepository.findByUserId(userId)).willReturn(Optional.of(user));
-			given(internalAuthClient.logout()).willReturn(ApiResponse.onSuccess(SuccessStatus._OK,null));
 
 			// when
 			userService.withdrawMembership(authentication);
@@ -350,7 +463,13 @@ public class UserServiceTest {
 			// then
 			verify(user).anonymizeForWithdrawal();
 			verify(userRepository).delete(user);
-			verify(internalAuthClient).logout();
+			verify(eventPublisher).publishEvent(any(UserWithdrawnEvent.class));
+
+			ArgumentCaptor<OutboxEvent> outboxCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+			verify(outboxEventRepository).save(outboxCaptor.capture());
+			assertThat(outboxCaptor.getValue().getEventType()).isEqualTo(OutboxEventType.AUTH_LOGOUT);
+			assertThat(outboxCaptor.getValue().getUserId()).isEqualTo(userId);
+			assertThat(outboxCaptor.getValue().getStatus()).isEqualTo(OutboxStatus.PENDING);
 		}
 
 		@Test
@@ -368,30 +487,26 @@ public class UserServiceTest {
 				.isEqualTo(ErrorStatus.USER_NOT_FOUND.getCode());
 
 			verify(userRepository, never()).delete(any(User.class));
-			verify(internalAuthClient, never()).logout();
+			verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
 		}
 
 		@Test
-		@DisplayName("실패 - 로그아웃 실패(Auth서버 통신 오류)")
-		void withdrawMembership_LogoutFailed_ThrowsException() {
+		@DisplayName("성공 - Auth 서버를 직접 호출하지 않으므로 Auth 장애와 무관하게 탈퇴")
+		void withdrawMembership_DoesNotCallAuthServerInTransaction() {
 			// given
 			Long userId = 1L;
 			User user = mock(User.class);
 
 			given(tokenPrincipalParser.getUserId(authentication)).willReturn(String.valueOf(userId));
 			given(userRepository.findByUserId(userId)).willReturn(Optional.of(user));
-			given(internalAuthClient.logout()).willThrow(
-				new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "Auth Server Error", new byte[0], null));
 
-			// when & then
-			assertThatThrownBy(() -> userService.withdrawMembership(authentication))
-				.isInstanceOf(GeneralException.class)
-				.extracting("errorReasonHttpStatus.code")
-				.isEqualTo(UserErrorStatus.LOGOUT_FAILED.getCode());
+			// when
+			userService.withdrawMembership(authentication);
 
-			// anonymize and delete are called before logout
+			// then
 			verify(user).anonymizeForWithdrawal();
 			verify(userRepository).delete(user);
+			verify(outboxEventRepository).save(any(OutboxEvent.class));
 		}
 	}
 }